@@ -0,0 +1,78 @@
+package com.pocketfinance.backend.security;
+
+import com.pocketfinance.backend.config.AccessTokenCacheProperties;
+import com.pocketfinance.backend.config.JwtProperties;
+import com.pocketfinance.backend.domain.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-with-at-least-32-bytes-1234567890";
+    private static final String ISSUER = "pocket-finance-benchmark";
+    private static final int DISTINCT_TOKENS = 1024;
+
+    private JwtService jwtService;
+    private JwtService missingCacheJwtService;
+    private User user;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties(SECRET, 15, 7, ISSUER);
+        TokenHashService tokenHashService = new TokenHashService();
+        jwtService = new JwtService(properties,
+                new AccessTokenCache(new AccessTokenCacheProperties(50_000), tokenHashService, new SimpleMeterRegistry()));
+        missingCacheJwtService = new JwtService(properties,
+                new AccessTokenCache(new AccessTokenCacheProperties(1), tokenHashService, new SimpleMeterRegistry()));
+
+        user = user(UUID.randomUUID());
+        token = jwtService.generateAccessToken(user);
+        tokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            tokens[i] = jwtService.generateAccessToken(user(UUID.randomUUID()));
+        }
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public AppUserPrincipal parseAccessTokenCached() {
+        return jwtService.parseAccessToken(token);
+    }
+
+    @Benchmark
+    public AppUserPrincipal parseAccessTokenVerified() {
+        return missingCacheJwtService.parseAccessToken(tokens[next++ & (DISTINCT_TOKENS - 1)]);
+    }
+
+    private static User user(UUID id) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("demo@pocket.local");
+        user.setFullName("Demo User");
+        return user;
+    }
+}
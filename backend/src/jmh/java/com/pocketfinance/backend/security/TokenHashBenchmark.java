@@ -0,0 +1,30 @@
+package com.pocketfinance.backend.security;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenHashBenchmark {
+
+    private final TokenHashService tokenHashService = new TokenHashService();
+    private final String token = "eyJhbGciOiJIUzI1NiJ9.eyJpc3MiOiJwb2NrZXQtZmluYW5jZSIsInN1YiI6IjEyMyIsInR5cGUiOiJyZWZyZXNoIn0."
+            + "c2lnbmF0dXJlLXBsYWNlaG9sZGVyLWZvci1iZW5jaG1hcmtpbmc";
+
+    @Benchmark
+    public String hash() {
+        return tokenHashService.hash(token);
+    }
+}
@@ -0,0 +1,85 @@
+package com.pocketfinance.backend.service;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pocketfinance.backend.api.dto.TransactionResponse;
+import com.pocketfinance.backend.config.ResponseCacheProperties;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvExportBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    private CsvService csvService;
+    private UUID userId;
+
+    @Setup
+    public void setUp() {
+        userId = UUID.randomUUID();
+        Random random = new Random(42);
+        UUID categoryId = UUID.randomUUID();
+        Instant createdAt = Instant.parse("2026-01-01T10:00:00Z");
+        List<TransactionResponse> transactions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            transactions.add(new TransactionResponse(
+                    UUID.randomUUID(),
+                    categoryId,
+                    "Alimentacao",
+                    random.nextInt(5) == 0 ? TransactionType.INCOME : TransactionType.EXPENSE,
+                    i % 10 == 0 ? "Supermercado, bairro " + i : "Compra " + i,
+                    BigDecimal.valueOf(100 + random.nextInt(500_000), 2),
+                    LocalDate.of(2026, 1, 1).plusDays(random.nextInt(365)),
+                    createdAt,
+                    createdAt
+            ));
+        }
+
+        TransactionService transactionService = mock(TransactionService.class);
+        when(transactionService.streamForExport(userId, null, null)).thenAnswer(invocation -> transactions.stream());
+        csvService = new CsvService(mock(UserRepository.class), mock(CategoryService.class),
+                mock(TransactionBatchWriter.class), transactionService, mock(MonthlyRollupService.class),
+                new MonthParser(), mock(DataVersionService.class), new ResponseCache(new ResponseCacheProperties(null,
+                        DataSize.ofBytes(0), null), mock(DataVersionService.class), new ObjectMapper(),
+                        mock(PlatformTransactionManager.class), new SimpleMeterRegistry()),
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public void exportCsv() throws IOException {
+        csvService.exportCsv(userId, null, null).writeTo(OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,134 @@
+package com.pocketfinance.backend.service;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.pocketfinance.backend.api.dto.CsvImportResponse;
+import com.pocketfinance.backend.domain.model.Category;
+import com.pocketfinance.backend.domain.model.FinanceTransaction;
+import com.pocketfinance.backend.domain.model.User;
+import com.pocketfinance.backend.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvImportBenchmark {
+
+    private static final String[] DESCRIPTIONS = {"Mercado", "Uber viagem", "Padaria", "Aluguel", "Farmacia", "Salario"};
+
+    @Param({"10000"})
+    private int rows;
+
+    @Param({"12"})
+    private int categories;
+
+    private CsvService csvService;
+    private UUID userId;
+    private byte[] csv;
+    private String[] categoryNames;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        userId = UUID.randomUUID();
+        User user = new User();
+        user.setId(userId);
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        CategoryService categoryService = mock(CategoryService.class);
+        when(categoryService.mapByLowerName(userId)).thenAnswer(invocation -> new HashMap<>());
+        when(categoryService.createMissing(eq(userId), anyMap())).thenAnswer(invocation -> {
+            Map<String, String> colorsByName = invocation.getArgument(1);
+            return colorsByName.entrySet().stream()
+                    .map(entry -> category(entry.getKey(), entry.getValue()))
+                    .toList();
+        });
+
+        csvService = new CsvService(userRepository, categoryService, new DiscardingBatchWriter(),
+                mock(TransactionService.class), mock(MonthlyRollupService.class), new MonthParser(),
+                mock(DataVersionService.class), mock(ResponseCache.class), mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry());
+
+        Random random = new Random(42);
+        categoryNames = new String[categories];
+        for (int i = 0; i < categories; i++) {
+            categoryNames[i] = "Categoria " + i;
+        }
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        StringBuilder builder = new StringBuilder("date,description,amount,type,category\n");
+        for (int i = 0; i < rows; i++) {
+            builder.append(start.plusDays(random.nextInt(365))).append(',')
+                    .append(DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]).append(' ').append(i).append(',')
+                    .append(1 + random.nextInt(5000)).append('.').append(random.nextInt(90) + 10).append(',')
+                    .append(random.nextInt(5) == 0 ? "INCOME" : "EXPENSE").append(',')
+                    .append(categoryNames[random.nextInt(categories)]).append('\n');
+        }
+        csv = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public CsvImportResponse importCsv() {
+        return csvService.importCsv(userId, new ByteArrayInputStream(csv), new ImportProgress());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String colorFromName() {
+        return CsvService.colorFromName(categoryNames[next++ % categoryNames.length]);
+    }
+
+    private static Category category(String name, String color) {
+        Category category = new Category();
+        category.setId(UUID.randomUUID());
+        category.setName(name);
+        category.setColor(color);
+        return category;
+    }
+
+    private static class DiscardingBatchWriter implements TransactionBatchWriter {
+
+        @Override
+        public String engine() {
+            return "discard";
+        }
+
+        @Override
+        public int chunkSize() {
+            return 500;
+        }
+
+        @Override
+        public int write(List<FinanceTransaction> chunk) {
+            return chunk.size();
+        }
+    }
+}
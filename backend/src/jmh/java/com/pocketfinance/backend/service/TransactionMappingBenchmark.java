@@ -0,0 +1,54 @@
+package com.pocketfinance.backend.service;
+
+import com.pocketfinance.backend.api.dto.TransactionResponse;
+import com.pocketfinance.backend.domain.model.Category;
+import com.pocketfinance.backend.domain.model.FinanceTransaction;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionMappingBenchmark {
+
+    private FinanceTransaction transaction;
+
+    @Setup
+    public void setUp() {
+        Category category = new Category();
+        category.setId(UUID.randomUUID());
+        category.setName("Alimentacao");
+
+        transaction = new FinanceTransaction();
+        transaction.setId(UUID.randomUUID());
+        transaction.setCategory(category);
+        transaction.setType(TransactionType.EXPENSE);
+        transaction.setDescription("Supermercado");
+        transaction.setAmount(new BigDecimal("123.45"));
+        transaction.setDate(LocalDate.of(2026, 2, 26));
+        transaction.setCreatedAt(Instant.parse("2026-02-26T10:00:00Z"));
+        transaction.setUpdatedAt(Instant.parse("2026-02-26T10:00:00Z"));
+    }
+
+    @Benchmark
+    public TransactionResponse toResponse() {
+        return TransactionMapper.toResponse(transaction);
+    }
+}
@@ -1,11 +1,16 @@
 package com.pocketfinance.backend.api.controller;
 
 import com.pocketfinance.backend.api.dto.BudgetCreateRequest;
+import com.pocketfinance.backend.api.dto.CachedJson;
 import com.pocketfinance.backend.api.dto.BudgetResponse;
+import com.pocketfinance.backend.api.dto.BudgetStatusResponse;
 import com.pocketfinance.backend.api.dto.BudgetUpdateRequest;
 import com.pocketfinance.backend.security.AppUserPrincipal;
 import com.pocketfinance.backend.service.BudgetService;
+import com.pocketfinance.backend.service.DataVersionService;
+import com.pocketfinance.backend.service.ResponseCache;
 import jakarta.validation.Valid;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
@@ -19,21 +24,52 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/budgets")
 public class BudgetController {
 
     private final BudgetService budgetService;
+    private final DataVersionService dataVersionService;
+    private final ResponseCache responseCache;
 
-    public BudgetController(BudgetService budgetService) {
+    public BudgetController(BudgetService budgetService,
+                            DataVersionService dataVersionService,
+                            ResponseCache responseCache) {
         this.budgetService = budgetService;
+        this.dataVersionService = dataVersionService;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public List<BudgetResponse> list(@AuthenticationPrincipal AppUserPrincipal principal,
-                                     @RequestParam(required = false) String month) {
-        return budgetService.list(principal.getUserId(), month);
+    public CachedJson<List<BudgetResponse>> list(@AuthenticationPrincipal AppUserPrincipal principal,
+                                                 @RequestParam(required = false) String month,
+                                                 WebRequest request) {
+        UUID userId = principal.getUserId();
+        String normalizedMonth = QueryParameters.value(month);
+        List<Object> parameters = List.of(monthOrCurrent(normalizedMonth));
+        String etag = dataVersionService.etag(userId, "budgets", parameters);
+        if (ConditionalRequests.notModified(request, etag)) {
+            return null;
+        }
+        return ConditionalRequests.tagged(request, responseCache.json(userId, "budgets", parameters,
+                () -> budgetService.list(userId, normalizedMonth)));
+    }
+
+    @GetMapping("/status")
+    public CachedJson<List<BudgetStatusResponse>> status(@AuthenticationPrincipal AppUserPrincipal principal,
+                                                         @RequestParam(required = false) String month,
+                                                         WebRequest request) {
+        UUID userId = principal.getUserId();
+        String normalizedMonth = QueryParameters.value(month);
+        List<Object> parameters = List.of(monthOrCurrent(normalizedMonth));
+        String etag = dataVersionService.etag(userId, "budgets/status", parameters);
+        if (ConditionalRequests.notModified(request, etag)) {
+            return null;
+        }
+        return ConditionalRequests.tagged(request, responseCache.json(userId, "budgets/status", parameters,
+                () -> budgetService.status(userId, normalizedMonth)));
     }
 
     @PostMapping
@@ -49,4 +85,8 @@ public class BudgetController {
                                  @Valid @RequestBody BudgetUpdateRequest request) {
         return budgetService.update(principal.getUserId(), id, request);
     }
+
+    private static Object monthOrCurrent(String month) {
+        return month == null ? YearMonth.now() : month;
+    }
 }
@@ -1,10 +1,13 @@
 package com.pocketfinance.backend.api.controller;
 
+import com.pocketfinance.backend.api.dto.CachedJson;
 import com.pocketfinance.backend.api.dto.CategoryCreateRequest;
 import com.pocketfinance.backend.api.dto.CategoryResponse;
 import com.pocketfinance.backend.api.dto.CategoryUpdateRequest;
 import com.pocketfinance.backend.security.AppUserPrincipal;
 import com.pocketfinance.backend.service.CategoryService;
+import com.pocketfinance.backend.service.DataVersionService;
+import com.pocketfinance.backend.service.ResponseCache;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
@@ -19,20 +22,34 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/categories")
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final DataVersionService dataVersionService;
+    private final ResponseCache responseCache;
 
-    public CategoryController(CategoryService categoryService) {
+    public CategoryController(CategoryService categoryService,
+                              DataVersionService dataVersionService,
+                              ResponseCache responseCache) {
         this.categoryService = categoryService;
+        this.dataVersionService = dataVersionService;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public List<CategoryResponse> list(@AuthenticationPrincipal AppUserPrincipal principal) {
-        return categoryService.list(principal.getUserId());
+    public CachedJson<List<CategoryResponse>> list(@AuthenticationPrincipal AppUserPrincipal principal,
+                                                   WebRequest request) {
+        UUID userId = principal.getUserId();
+        String etag = dataVersionService.etag(userId, "categories", List.of());
+        if (ConditionalRequests.notModified(request, etag)) {
+            return null;
+        }
+        return ConditionalRequests.tagged(request, responseCache.json(userId, "categories", List.of(),
+                () -> categoryService.list(userId)));
     }
 
     @PostMapping
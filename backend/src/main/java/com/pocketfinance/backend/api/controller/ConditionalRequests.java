@@ -0,0 +1,38 @@
+package com.pocketfinance.backend.api.controller;
+
+import com.pocketfinance.backend.api.dto.CachedJson;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+final class ConditionalRequests {
+
+    private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalRequests() {
+    }
+
+    static boolean notModified(WebRequest request, String etag) {
+        HttpServletResponse response = nativeResponse(request);
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+        }
+        return request.checkNotModified(etag);
+    }
+
+    static <T> CachedJson<T> tagged(WebRequest request, CachedJson<T> body) {
+        HttpServletResponse response = nativeResponse(request);
+        if (response != null) {
+            response.setHeader(HttpHeaders.ETAG, body.etag());
+        }
+        return body;
+    }
+
+    private static HttpServletResponse nativeResponse(WebRequest request) {
+        return request instanceof NativeWebRequest nativeRequest
+                ? nativeRequest.getNativeResponse(HttpServletResponse.class)
+                : null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.pocketfinance.backend.api.controller;
+
+import com.pocketfinance.backend.api.dto.DashboardSummaryResponse;
+import com.pocketfinance.backend.security.AppUserPrincipal;
+import com.pocketfinance.backend.service.DashboardService;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping("/summary")
+    public DashboardSummaryResponse summary(@AuthenticationPrincipal AppUserPrincipal principal,
+                                            @RequestParam(required = false) String month) {
+        return dashboardService.summary(principal.getUserId(), month);
+    }
+}
@@ -0,0 +1,23 @@
+package com.pocketfinance.backend.api.controller;
+
+import java.util.Locale;
+
+// Cached reads key on these values, so the service must see exactly what the key saw.
+final class QueryParameters {
+
+    private QueryParameters() {
+    }
+
+    static String value(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String trimmed = raw.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    static String text(String raw) {
+        String value = value(raw);
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,8 +1,19 @@
 package com.pocketfinance.backend.api.controller;
 
+import com.pocketfinance.backend.api.dto.CachedJson;
 import com.pocketfinance.backend.api.dto.CsvImportResponse;
+import com.pocketfinance.backend.api.dto.ImportJobResponse;
+import com.pocketfinance.backend.api.dto.TrendResponse;
+import com.pocketfinance.backend.domain.model.TransactionType;
 import com.pocketfinance.backend.security.AppUserPrincipal;
 import com.pocketfinance.backend.service.CsvService;
+import com.pocketfinance.backend.service.DataVersionService;
+import com.pocketfinance.backend.service.ImportJobService;
+import com.pocketfinance.backend.service.ReportService;
+import com.pocketfinance.backend.service.ResponseCache;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
@@ -10,21 +21,36 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping
 public class ReportController {
 
     private final CsvService csvService;
+    private final ImportJobService importJobService;
+    private final ReportService reportService;
+    private final DataVersionService dataVersionService;
+    private final ResponseCache responseCache;
 
-    public ReportController(CsvService csvService) {
+    public ReportController(CsvService csvService,
+                            ImportJobService importJobService,
+                            ReportService reportService,
+                            DataVersionService dataVersionService,
+                            ResponseCache responseCache) {
         this.csvService = csvService;
+        this.importJobService = importJobService;
+        this.reportService = reportService;
+        this.dataVersionService = dataVersionService;
+        this.responseCache = responseCache;
     }
 
     @PostMapping(value = "/import/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -33,11 +59,27 @@ public class ReportController {
         return csvService.importSimpleCsv(principal.getUserId(), file);
     }
 
+    @PostMapping(value = "/import/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> submitImportJob(@AuthenticationPrincipal AppUserPrincipal principal,
+                                                             @RequestPart("file") MultipartFile file) {
+        ImportJobResponse job = importJobService.submit(principal.getUserId(), file);
+        return ResponseEntity.accepted()
+                .location(URI.create("/import/jobs/" + job.id()))
+                .body(job);
+    }
+
+    @GetMapping("/import/jobs/{id}")
+    public ImportJobResponse getImportJob(@AuthenticationPrincipal AppUserPrincipal principal,
+                                          @PathVariable UUID id) {
+        return importJobService.get(principal.getUserId(), id);
+    }
+
     @GetMapping(value = "/export/csv", produces = "text/csv")
-    public ResponseEntity<byte[]> exportCsv(@AuthenticationPrincipal AppUserPrincipal principal,
-                                            @RequestParam(required = false) String month,
-                                            @RequestParam(required = false) UUID category) {
-        byte[] payload = csvService.exportCsv(principal.getUserId(), month, category);
+    public ResponseEntity<StreamingResponseBody> exportCsv(@AuthenticationPrincipal AppUserPrincipal principal,
+                                                           @RequestParam(required = false) String month,
+                                                           @RequestParam(required = false) UUID category) {
+        StreamingResponseBody payload = csvService.exportCsv(principal.getUserId(), QueryParameters.value(month),
+                category);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.parseMediaType("text/csv"));
@@ -47,4 +89,24 @@ public class ReportController {
                 .headers(headers)
                 .body(payload);
     }
+
+    @GetMapping("/reports/trend")
+    public CachedJson<TrendResponse> trend(@AuthenticationPrincipal AppUserPrincipal principal,
+                                           @RequestParam String from,
+                                           @RequestParam String to,
+                                           @RequestParam(defaultValue = "category") String groupBy,
+                                           @RequestParam(required = false) TransactionType type,
+                                           WebRequest request) {
+        UUID userId = principal.getUserId();
+        String normalizedFrom = QueryParameters.value(from);
+        String normalizedTo = QueryParameters.value(to);
+        String grouping = QueryParameters.text(groupBy);
+        List<Object> parameters = Arrays.asList(normalizedFrom, normalizedTo, grouping, type);
+        String etag = dataVersionService.etag(userId, "reports/trend", parameters);
+        if (ConditionalRequests.notModified(request, etag)) {
+            return null;
+        }
+        return ConditionalRequests.tagged(request, responseCache.json(userId, "reports/trend", parameters,
+                () -> reportService.trend(userId, normalizedFrom, normalizedTo, grouping, type)));
+    }
 }
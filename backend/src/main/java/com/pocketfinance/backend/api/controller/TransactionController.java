@@ -1,14 +1,26 @@
 package com.pocketfinance.backend.api.controller;
 
+import com.pocketfinance.backend.api.dto.CachedJson;
+import com.pocketfinance.backend.api.dto.CursorPageResponse;
 import com.pocketfinance.backend.api.dto.PageResponse;
+import com.pocketfinance.backend.api.dto.TransactionBatchRequest;
+import com.pocketfinance.backend.api.dto.TransactionBatchResponse;
 import com.pocketfinance.backend.api.dto.TransactionCreateRequest;
 import com.pocketfinance.backend.api.dto.TransactionResponse;
 import com.pocketfinance.backend.api.dto.TransactionUpdateRequest;
+import com.pocketfinance.backend.domain.model.TransactionSearchMode;
 import com.pocketfinance.backend.domain.model.TransactionType;
 import com.pocketfinance.backend.security.AppUserPrincipal;
+import com.pocketfinance.backend.service.DataVersionService;
+import com.pocketfinance.backend.service.ResponseCache;
 import com.pocketfinance.backend.service.TransactionService;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,25 +33,65 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/transactions")
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final DataVersionService dataVersionService;
+    private final ResponseCache responseCache;
 
-    public TransactionController(TransactionService transactionService) {
+    public TransactionController(TransactionService transactionService,
+                                 DataVersionService dataVersionService,
+                                 ResponseCache responseCache) {
         this.transactionService = transactionService;
+        this.dataVersionService = dataVersionService;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public PageResponse<TransactionResponse> list(@AuthenticationPrincipal AppUserPrincipal principal,
-                                                  @RequestParam(required = false) String month,
-                                                  @RequestParam(required = false) UUID category,
-                                                  @RequestParam(required = false) TransactionType type,
-                                                  @RequestParam(required = false) String q,
-                                                  @RequestParam(defaultValue = "0") Integer page) {
-        return transactionService.list(principal.getUserId(), month, category, type, q, page);
+    public CachedJson<PageResponse<TransactionResponse>> list(@AuthenticationPrincipal AppUserPrincipal principal,
+                                                              @RequestParam(required = false) String month,
+                                                              @RequestParam(required = false) UUID category,
+                                                              @RequestParam(required = false) TransactionType type,
+                                                              @RequestParam(required = false) String q,
+                                                              @RequestParam(defaultValue = "CONTAINS") TransactionSearchMode search,
+                                                              @RequestParam(defaultValue = "0") Integer page,
+                                                              WebRequest request) {
+        UUID userId = principal.getUserId();
+        String normalizedMonth = QueryParameters.value(month);
+        String terms = QueryParameters.text(q);
+        List<Object> parameters = Arrays.asList(normalizedMonth, category, type, terms, search, page);
+        String etag = dataVersionService.etag(userId, "transactions", parameters);
+        if (ConditionalRequests.notModified(request, etag)) {
+            return null;
+        }
+        return ConditionalRequests.tagged(request, responseCache.json(userId, "transactions", parameters,
+                () -> transactionService.list(userId, normalizedMonth, category, type, terms, search, page)));
+    }
+
+    @GetMapping("/cursor")
+    public CachedJson<CursorPageResponse<TransactionResponse>> listAfter(@AuthenticationPrincipal AppUserPrincipal principal,
+                                                                         @RequestParam(required = false) String month,
+                                                                         @RequestParam(required = false) UUID category,
+                                                                         @RequestParam(required = false) TransactionType type,
+                                                                         @RequestParam(required = false) String q,
+                                                                         @RequestParam(defaultValue = "CONTAINS") TransactionSearchMode search,
+                                                                         @RequestParam(required = false) String after,
+                                                                         WebRequest request) {
+        UUID userId = principal.getUserId();
+        String normalizedMonth = QueryParameters.value(month);
+        String terms = QueryParameters.text(q);
+        String cursor = QueryParameters.value(after);
+        List<Object> parameters = Arrays.asList(normalizedMonth, category, type, terms, search, cursor);
+        String etag = dataVersionService.etag(userId, "transactions/cursor", parameters);
+        if (ConditionalRequests.notModified(request, etag)) {
+            return null;
+        }
+        return ConditionalRequests.tagged(request, responseCache.json(userId, "transactions/cursor", parameters,
+                () -> transactionService.listAfter(userId, normalizedMonth, category, type, terms, search, cursor)));
     }
 
     @PostMapping
@@ -49,23 +101,32 @@ public class TransactionController {
         return transactionService.create(principal.getUserId(), request);
     }
 
+    @PostMapping("/batch")
+    public TransactionBatchResponse batch(@AuthenticationPrincipal AppUserPrincipal principal,
+                                          @Valid @RequestBody TransactionBatchRequest request) {
+        return transactionService.batch(principal.getUserId(), request);
+    }
+
     @GetMapping("/{id}")
     public TransactionResponse get(@AuthenticationPrincipal AppUserPrincipal principal,
-                                   @PathVariable UUID id) {
-        return transactionService.getById(principal.getUserId(), id);
+                                   @PathVariable UUID id,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate date) {
+        return transactionService.getById(principal.getUserId(), id, date);
     }
 
     @PatchMapping("/{id}")
     public TransactionResponse update(@AuthenticationPrincipal AppUserPrincipal principal,
                                       @PathVariable UUID id,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate date,
                                       @Valid @RequestBody TransactionUpdateRequest request) {
-        return transactionService.update(principal.getUserId(), id, request);
+        return transactionService.update(principal.getUserId(), id, date, request);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@AuthenticationPrincipal AppUserPrincipal principal,
-                       @PathVariable UUID id) {
-        transactionService.delete(principal.getUserId(), id);
+                       @PathVariable UUID id,
+                       @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate date) {
+        transactionService.delete(principal.getUserId(), id, date);
     }
 }
@@ -0,0 +1,18 @@
+package com.pocketfinance.backend.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record BudgetStatusResponse(
+        UUID budgetId,
+        UUID categoryId,
+        String categoryName,
+        String categoryColor,
+        LocalDate month,
+        BigDecimal budgeted,
+        BigDecimal spent,
+        BigDecimal remaining,
+        BigDecimal percentUsed
+) {
+}
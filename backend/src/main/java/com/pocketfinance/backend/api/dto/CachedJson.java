@@ -0,0 +1,7 @@
+package com.pocketfinance.backend.api.dto;
+
+public record CachedJson<T>(
+        byte[] body,
+        String etag
+) {
+}
@@ -2,6 +2,9 @@ package com.pocketfinance.backend.api.dto;
 
 public record CsvImportResponse(
         int imported,
-        int skipped
+        int skipped,
+        String engine,
+        long elapsedMillis,
+        long rowsPerSecond
 ) {
 }
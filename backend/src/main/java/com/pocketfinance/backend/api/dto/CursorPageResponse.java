@@ -0,0 +1,11 @@
+package com.pocketfinance.backend.api.dto;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> items,
+        int size,
+        String nextCursor,
+        boolean last
+) {
+}
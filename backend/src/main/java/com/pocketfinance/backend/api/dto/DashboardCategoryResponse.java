@@ -0,0 +1,13 @@
+package com.pocketfinance.backend.api.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record DashboardCategoryResponse(
+        UUID categoryId,
+        String categoryName,
+        String color,
+        BigDecimal spent,
+        BigDecimal budget
+) {
+}
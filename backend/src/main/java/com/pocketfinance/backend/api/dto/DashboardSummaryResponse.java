@@ -0,0 +1,15 @@
+package com.pocketfinance.backend.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record DashboardSummaryResponse(
+        LocalDate month,
+        BigDecimal income,
+        BigDecimal expense,
+        BigDecimal balance,
+        List<DashboardCategoryResponse> categories,
+        List<TransactionResponse> recentTransactions
+) {
+}
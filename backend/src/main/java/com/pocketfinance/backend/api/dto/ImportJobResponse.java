@@ -0,0 +1,19 @@
+package com.pocketfinance.backend.api.dto;
+
+import com.pocketfinance.backend.domain.model.ImportJobStatus;
+import java.time.Instant;
+import java.util.UUID;
+
+public record ImportJobResponse(
+        UUID id,
+        ImportJobStatus status,
+        int parsed,
+        int imported,
+        int skipped,
+        long rowsPerSecond,
+        String engine,
+        String error,
+        Instant createdAt,
+        Instant finishedAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.pocketfinance.backend.api.dto;
+
+import com.pocketfinance.backend.domain.model.TransactionBatchAction;
+import java.util.UUID;
+
+public record TransactionBatchItemResponse(
+        int index,
+        TransactionBatchAction action,
+        int status,
+        UUID id,
+        TransactionResponse transaction,
+        String message
+) {
+}
@@ -0,0 +1,10 @@
+package com.pocketfinance.backend.api.dto;
+
+import java.util.List;
+
+public record TransactionBatchResponse(
+        int applied,
+        int failed,
+        List<TransactionBatchItemResponse> results
+) {
+}
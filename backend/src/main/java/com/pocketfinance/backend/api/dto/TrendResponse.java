@@ -0,0 +1,16 @@
+package com.pocketfinance.backend.api.dto;
+
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.domain.model.TrendGroupBy;
+import java.time.LocalDate;
+import java.util.List;
+
+public record TrendResponse(
+        LocalDate from,
+        LocalDate to,
+        TrendGroupBy groupBy,
+        TransactionType type,
+        List<LocalDate> months,
+        List<TrendSeriesResponse> series
+) {
+}
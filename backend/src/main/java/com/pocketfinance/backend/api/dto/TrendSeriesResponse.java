@@ -0,0 +1,12 @@
+package com.pocketfinance.backend.api.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record TrendSeriesResponse(
+        String key,
+        String label,
+        String color,
+        List<BigDecimal> totals
+) {
+}
@@ -0,0 +1,15 @@
+package com.pocketfinance.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.access-token-cache")
+public record AccessTokenCacheProperties(
+        long maximumSize
+) {
+
+    public AccessTokenCacheProperties {
+        if (maximumSize < 1) {
+            maximumSize = 50_000;
+        }
+    }
+}
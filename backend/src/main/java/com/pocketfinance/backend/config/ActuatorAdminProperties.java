@@ -0,0 +1,20 @@
+package com.pocketfinance.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.admin")
+public record ActuatorAdminProperties(
+        String username,
+        String password
+) {
+
+    public ActuatorAdminProperties {
+        if (username == null || username.isBlank()) {
+            username = "admin";
+        }
+    }
+
+    public boolean enabled() {
+        return password != null && !password.isBlank();
+    }
+}
@@ -0,0 +1,20 @@
+package com.pocketfinance.backend.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.bulkheads")
+public record BulkheadProperties(
+        boolean enabled,
+        Duration maxWait,
+        int interactive,
+        int reports,
+        int imports
+) {
+
+    public BulkheadProperties {
+        if (maxWait == null) {
+            maxWait = Duration.ofSeconds(2);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.pocketfinance.backend.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.category-cache")
+public record CategoryCacheProperties(
+        long maximumSize,
+        Duration ttl
+) {
+
+    public CategoryCacheProperties {
+        if (maximumSize < 1) {
+            maximumSize = 10_000;
+        }
+        if (ttl == null) {
+            ttl = Duration.ofMinutes(10);
+        }
+    }
+}
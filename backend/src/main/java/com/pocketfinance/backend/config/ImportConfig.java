@@ -0,0 +1,41 @@
+package com.pocketfinance.backend.config;
+
+import com.pocketfinance.backend.domain.repository.FinanceTransactionRepository;
+import com.pocketfinance.backend.service.JpaTransactionBatchWriter;
+import com.pocketfinance.backend.service.PgCopyTransactionBatchWriter;
+import com.pocketfinance.backend.service.TransactionBatchWriter;
+import java.sql.DatabaseMetaData;
+import javax.sql.DataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+@Configuration
+public class ImportConfig {
+
+    @Bean
+    public TransactionBatchWriter transactionBatchWriter(ImportProperties properties,
+                                                         DataSource dataSource,
+                                                         JdbcTemplate jdbcTemplate,
+                                                         FinanceTransactionRepository transactionRepository) {
+        boolean useCopy = switch (properties.engine()) {
+            case COPY -> true;
+            case JPA -> false;
+            case AUTO -> isPostgres(dataSource);
+        };
+        return useCopy
+                ? new PgCopyTransactionBatchWriter(jdbcTemplate)
+                : new JpaTransactionBatchWriter(transactionRepository);
+    }
+
+    private boolean isPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (MetaDataAccessException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.pocketfinance.backend.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.import")
+public record ImportProperties(
+        Engine engine,
+        int maxConcurrentJobs,
+        int queueCapacity,
+        Duration jobRetention
+) {
+
+    public ImportProperties {
+        if (engine == null) {
+            engine = Engine.AUTO;
+        }
+        if (maxConcurrentJobs < 1) {
+            maxConcurrentJobs = 2;
+        }
+        if (queueCapacity < 0) {
+            queueCapacity = 8;
+        }
+        if (jobRetention == null) {
+            jobRetention = Duration.ofHours(1);
+        }
+    }
+
+    public enum Engine {
+        AUTO,
+        JPA,
+        COPY
+    }
+}
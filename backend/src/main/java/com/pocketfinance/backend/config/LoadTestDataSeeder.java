@@ -0,0 +1,30 @@
+package com.pocketfinance.backend.config;
+
+import com.pocketfinance.backend.service.LoadTestDataGenerator;
+import com.pocketfinance.backend.service.MonthlyRollupService;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@Profile("loadtest")
+public class LoadTestDataSeeder {
+
+    @Bean
+    LoadTestDataGenerator loadTestDataGenerator(LoadTestProperties properties,
+                                                JdbcTemplate jdbcTemplate,
+                                                PlatformTransactionManager transactionManager,
+                                                MonthlyRollupService rollupService,
+                                                PasswordEncoder passwordEncoder) {
+        return new LoadTestDataGenerator(properties, jdbcTemplate, transactionManager, rollupService, passwordEncoder);
+    }
+
+    @Bean
+    CommandLineRunner generateLoadTestData(LoadTestDataGenerator generator) {
+        return args -> generator.generate();
+    }
+}
@@ -0,0 +1,52 @@
+package com.pocketfinance.backend.config;
+
+import java.time.YearMonth;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.loadtest")
+public record LoadTestProperties(
+        int users,
+        int categoriesPerUser,
+        int transactionsPerUser,
+        int months,
+        YearMonth endMonth,
+        long seed,
+        int parallelism,
+        double budgetCoverage,
+        String emailDomain,
+        String password
+) {
+
+    // Fixed so the same seed builds the same data set whenever it runs.
+    public static final YearMonth DEFAULT_END_MONTH = YearMonth.of(2026, 6);
+
+    public LoadTestProperties {
+        if (users < 1) {
+            users = 50;
+        }
+        if (categoriesPerUser < 1) {
+            categoriesPerUser = 12;
+        }
+        if (transactionsPerUser < 1) {
+            transactionsPerUser = 20_000;
+        }
+        if (months < 1) {
+            months = 24;
+        }
+        if (endMonth == null) {
+            endMonth = DEFAULT_END_MONTH;
+        }
+        if (parallelism < 1) {
+            parallelism = 2;
+        }
+        if (budgetCoverage < 0 || budgetCoverage > 1) {
+            budgetCoverage = 0.6;
+        }
+        if (emailDomain == null || emailDomain.isBlank()) {
+            emailDomain = "loadtest.local";
+        }
+        if (password == null || password.isBlank()) {
+            password = "loadtest123";
+        }
+    }
+}
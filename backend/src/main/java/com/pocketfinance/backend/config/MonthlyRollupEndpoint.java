@@ -0,0 +1,26 @@
+package com.pocketfinance.backend.config;
+
+import com.pocketfinance.backend.service.MonthlyRollupService;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "rollups")
+public class MonthlyRollupEndpoint {
+
+    private final MonthlyRollupService rollupService;
+
+    public MonthlyRollupEndpoint(MonthlyRollupService rollupService) {
+        this.rollupService = rollupService;
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild(@Nullable UUID userId) {
+        int rows = rollupService.rebuild(userId);
+        return Map.of("scope", userId == null ? "all" : userId.toString(), "rows", rows);
+    }
+}
@@ -1,15 +1,21 @@
 package com.pocketfinance.backend.config;
 
+import com.pocketfinance.backend.api.dto.CachedJson;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class OpenApiConfig {
 
+    static {
+        SpringDocUtils.getConfig().addResponseWrapperToIgnore(CachedJson.class);
+    }
+
     @Bean
     public OpenAPI pocketFinanceOpenApi() {
         String securitySchemeName = "bearerAuth";
@@ -0,0 +1,20 @@
+package com.pocketfinance.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.partitions")
+public record PartitionProperties(
+        boolean enabled,
+        int yearsAhead,
+        String cron
+) {
+
+    public PartitionProperties {
+        if (yearsAhead < 1) {
+            yearsAhead = 1;
+        }
+        if (cron == null || cron.isBlank()) {
+            cron = "0 30 3 * * *";
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.pocketfinance.backend.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.password-hashing")
+public record PasswordHashingProperties(
+        int threads,
+        int queueCapacity,
+        Duration maxWait
+) {
+
+    public PasswordHashingProperties {
+        if (threads < 1) {
+            threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+        if (queueCapacity < 0) {
+            queueCapacity = 32;
+        }
+        if (maxWait == null) {
+            maxWait = Duration.ofSeconds(3);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.pocketfinance.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class PrimaryReadPins {
+
+    private final boolean enabled;
+    private final Cache<UUID, Boolean> pinnedUsers;
+
+    public PrimaryReadPins(ReadReplicaProperties properties) {
+        this.enabled = !properties.urls().isEmpty();
+        this.pinnedUsers = Caffeine.newBuilder()
+                .maximumSize(properties.maximumPinnedUsers())
+                .expireAfterWrite(properties.primaryPin())
+                .build();
+    }
+
+    public void pinAfterCommit(UUID userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pinnedUsers.put(userId, Boolean.TRUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pinnedUsers.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    public boolean isPinned(UUID userId) {
+        return userId != null && pinnedUsers.getIfPresent(userId) != null;
+    }
+}
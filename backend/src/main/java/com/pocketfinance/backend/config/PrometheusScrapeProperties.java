@@ -0,0 +1,20 @@
+package com.pocketfinance.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.metrics.scrape")
+public record PrometheusScrapeProperties(
+        String username,
+        String password
+) {
+
+    public PrometheusScrapeProperties {
+        if (username == null || username.isBlank()) {
+            username = "prometheus";
+        }
+    }
+
+    public boolean enabled() {
+        return password != null && !password.isBlank();
+    }
+}
@@ -0,0 +1,33 @@
+package com.pocketfinance.backend.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.read-replicas")
+public record ReadReplicaProperties(
+        List<String> urls,
+        String username,
+        String password,
+        int maximumPoolSize,
+        Duration connectionTimeout,
+        Duration primaryPin,
+        long maximumPinnedUsers
+) {
+
+    public ReadReplicaProperties {
+        urls = urls == null ? List.of() : urls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        if (maximumPoolSize < 1) {
+            maximumPoolSize = 10;
+        }
+        if (connectionTimeout == null) {
+            connectionTimeout = Duration.ofSeconds(2);
+        }
+        if (primaryPin == null) {
+            primaryPin = Duration.ofSeconds(5);
+        }
+        if (maximumPinnedUsers < 1) {
+            maximumPinnedUsers = 100_000;
+        }
+    }
+}
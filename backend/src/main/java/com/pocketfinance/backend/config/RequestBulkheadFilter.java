@@ -0,0 +1,178 @@
+package com.pocketfinance.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 10)
+public class RequestBulkheadFilter extends OncePerRequestFilter {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final int UNFILTERED_HEADROOM = 1;
+
+    private final BulkheadProperties properties;
+    private final Map<Compartment, Semaphore> permits = new EnumMap<>(Compartment.class);
+    private final Map<Compartment, Counter> rejections = new EnumMap<>(Compartment.class);
+
+    public RequestBulkheadFilter(BulkheadProperties properties,
+                                 ImportProperties importProperties,
+                                 DataSource dataSource,
+                                 MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        // Import jobs are reserved once. Login, actuator endpoints and scheduled tasks also bypass this filter;
+        // they are short and rare, so they share one connection of headroom rather than a bound. The rest of
+        // the pool is split between the compartments: 1/5 each for reports and imports, the remainder for
+        // interactive traffic.
+        int poolSize = poolSize(dataSource);
+        int background = importProperties.maxConcurrentJobs();
+        int available = poolSize - background - UNFILTERED_HEADROOM;
+        int reports = properties.reports() > 0 ? properties.reports() : Math.max(1, available / 5);
+        int imports = properties.imports() > 0 ? properties.imports() : Math.max(1, available / 5);
+        int interactive = properties.interactive() > 0
+                ? properties.interactive()
+                : Math.max(1, available - reports - imports);
+
+        if (properties.enabled() && interactive + reports + imports + background + UNFILTERED_HEADROOM > poolSize) {
+            throw new IllegalStateException(("Bulkheads (interactive=%d, reports=%d, imports=%d) mais importacoes "
+                    + "em segundo plano (%d) e folga para rotas sem bulkhead (%d) excedem o pool de conexoes (%d).")
+                    .formatted(interactive, reports, imports, background, UNFILTERED_HEADROOM, poolSize));
+        }
+
+        register(Compartment.INTERACTIVE, interactive, meterRegistry);
+        register(Compartment.REPORTS, reports, meterRegistry);
+        register(Compartment.IMPORTS, imports, meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || classify(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Compartment compartment = classify(request.getRequestURI());
+        Semaphore semaphore = permits.get(compartment);
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(properties.maxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejections.get(compartment).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType("application/json");
+            response.getWriter().write("{\"message\":\"Servidor ocupado. Tente novamente em instantes.\"}");
+            return;
+        }
+
+        boolean releaseOnAsyncCompletion = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(semaphore));
+                releaseOnAsyncCompletion = true;
+            }
+        } finally {
+            if (!releaseOnAsyncCompletion) {
+                semaphore.release();
+            }
+        }
+    }
+
+    static Compartment classify(String path) {
+        if (path.startsWith("/actuator") || path.startsWith("/v3/api-docs") || path.startsWith("/swagger-ui")
+                || path.equals("/auth/login")) {
+            return null;
+        }
+        if (path.startsWith("/import/") || path.startsWith("/export/")) {
+            return Compartment.IMPORTS;
+        }
+        if (path.startsWith("/reports/")) {
+            return Compartment.REPORTS;
+        }
+        return Compartment.INTERACTIVE;
+    }
+
+    private void register(Compartment compartment, int size, MeterRegistry meterRegistry) {
+        Semaphore semaphore = new Semaphore(size);
+        permits.put(compartment, semaphore);
+        String name = compartment.name().toLowerCase(Locale.ROOT);
+        Gauge.builder("http.bulkhead.available", semaphore, Semaphore::availablePermits)
+                .description("Free request slots in the bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("http.bulkhead.capacity", () -> size)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        rejections.put(compartment, Counter.builder("http.bulkhead.rejected")
+                .description("Requests rejected because the bulkhead stayed full past max-wait")
+                .tag("bulkhead", name)
+                .register(meterRegistry));
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException ex) {
+            return DEFAULT_POOL_SIZE;
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+
+    public enum Compartment {
+        INTERACTIVE,
+        REPORTS,
+        IMPORTS
+    }
+
+    private record ReleasingListener(Semaphore semaphore) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            semaphore.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.pocketfinance.backend.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "app.response-cache")
+public record ResponseCacheProperties(
+        DataSize maximumSize,
+        DataSize maximumEntrySize,
+        Duration ttl
+) {
+
+    public ResponseCacheProperties {
+        if (maximumSize == null) {
+            maximumSize = DataSize.ofMegabytes(64);
+        }
+        if (maximumEntrySize == null) {
+            maximumEntrySize = DataSize.ofMegabytes(1);
+        }
+        if (ttl == null) {
+            ttl = Duration.ofMinutes(10);
+        }
+    }
+}
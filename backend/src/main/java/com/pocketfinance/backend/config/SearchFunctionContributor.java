@@ -0,0 +1,37 @@
+package com.pocketfinance.backend.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+public class SearchFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_FUNCTION = "description_matches";
+    public static final String RANK_FUNCTION = "description_rank";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        if (functionContributions.getDialect() instanceof PostgreSQLDialect) {
+            // Must match the expression of idx_transaction_description_fts (V3) for the planner to use it.
+            registry.registerPattern(MATCH_FUNCTION,
+                    "(to_tsvector('simple', ?1) @@ websearch_to_tsquery('simple', ?2))",
+                    types.resolve(StandardBasicTypes.BOOLEAN));
+            registry.registerPattern(RANK_FUNCTION,
+                    "ts_rank(to_tsvector('simple', ?1), websearch_to_tsquery('simple', ?2))",
+                    types.resolve(StandardBasicTypes.DOUBLE));
+        } else {
+            registry.registerPattern(MATCH_FUNCTION,
+                    "(lower(?1) like concat('%', lower(?2), '%'))",
+                    types.resolve(StandardBasicTypes.BOOLEAN));
+            registry.registerPattern(RANK_FUNCTION,
+                    "(case when lower(?1) like concat('%', lower(?2), '%') then 1.0 else 0.0 end)",
+                    types.resolve(StandardBasicTypes.DOUBLE));
+        }
+    }
+}
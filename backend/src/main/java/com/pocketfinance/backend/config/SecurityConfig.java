@@ -1,13 +1,19 @@
 package com.pocketfinance.backend.config;
 
 import com.pocketfinance.backend.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -23,6 +29,56 @@ public class SecurityConfig {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
 
+    @Bean
+    @Order(1)
+    public SecurityFilterChain prometheusFilterChain(HttpSecurity http,
+                                                     PrometheusScrapeProperties scrapeProperties,
+                                                     PasswordEncoder passwordEncoder) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.to("prometheus"))
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(Customizer.withDefaults());
+
+        if (scrapeProperties.enabled()) {
+            http
+                    .userDetailsService(new InMemoryUserDetailsManager(User.withUsername(scrapeProperties.username())
+                            .password(passwordEncoder.encode(scrapeProperties.password()))
+                            .roles("METRICS")
+                            .build()))
+                    .authorizeHttpRequests(authorize -> authorize.anyRequest().hasRole("METRICS"));
+        } else {
+            http.authorizeHttpRequests(authorize -> authorize.anyRequest().denyAll());
+        }
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
+    public SecurityFilterChain actuatorAdminFilterChain(HttpSecurity http,
+                                                        ActuatorAdminProperties adminProperties,
+                                                        PasswordEncoder passwordEncoder) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint().excluding("health", "info", "prometheus"))
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(Customizer.withDefaults());
+
+        if (adminProperties.enabled()) {
+            http
+                    .userDetailsService(new InMemoryUserDetailsManager(User.withUsername(adminProperties.username())
+                            .password(passwordEncoder.encode(adminProperties.password()))
+                            .roles("ADMIN")
+                            .build()))
+                    .authorizeHttpRequests(authorize -> authorize.anyRequest().hasRole("ADMIN"));
+        } else {
+            http.authorizeHttpRequests(authorize -> authorize.anyRequest().denyAll());
+        }
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -30,6 +86,7 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers(HttpMethod.POST, "/auth/login", "/auth/refresh").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/actuator/health").permitAll()
                         .anyRequest().authenticated())
@@ -0,0 +1,8 @@
+package com.pocketfinance.backend.domain.model;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
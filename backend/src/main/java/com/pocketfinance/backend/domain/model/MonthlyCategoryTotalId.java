@@ -0,0 +1,21 @@
+package com.pocketfinance.backend.domain.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class MonthlyCategoryTotalId implements Serializable {
+
+    private UUID userId;
+    private LocalDate monthRef;
+    private UUID categoryId;
+    private TransactionType type;
+}
@@ -0,0 +1,7 @@
+package com.pocketfinance.backend.domain.model;
+
+public enum TransactionBatchAction {
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,7 @@
+package com.pocketfinance.backend.domain.model;
+
+public enum TransactionSearchMode {
+    CONTAINS,
+    WORDS,
+    RANKED
+}
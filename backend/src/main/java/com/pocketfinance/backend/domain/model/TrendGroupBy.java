@@ -0,0 +1,6 @@
+package com.pocketfinance.backend.domain.model;
+
+public enum TrendGroupBy {
+    CATEGORY,
+    TYPE
+}
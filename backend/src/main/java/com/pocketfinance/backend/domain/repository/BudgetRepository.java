@@ -1,17 +1,38 @@
 package com.pocketfinance.backend.domain.repository;
 
 import com.pocketfinance.backend.domain.model.Budget;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.domain.repository.projection.BudgetStatusView;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BudgetRepository extends JpaRepository<Budget, UUID> {
 
+    @EntityGraph(attributePaths = "category")
     List<Budget> findByUserIdAndMonthRefOrderByCategoryNameAsc(UUID userId, LocalDate monthRef);
 
+    @EntityGraph(attributePaths = "category")
     Optional<Budget> findByIdAndUserId(UUID id, UUID userId);
 
     boolean existsByUserIdAndMonthRefAndCategoryId(UUID userId, LocalDate monthRef, UUID categoryId);
+
+    @Query("""
+            select b.id as budgetId, c.id as categoryId, c.name as categoryName, c.color as categoryColor,
+                   b.monthRef as monthRef, b.amount as budgeted, coalesce(m.total, 0) as spent
+            from Budget b
+            join b.category c
+            left join MonthlyCategoryTotal m
+                on m.userId = b.user.id and m.categoryId = c.id and m.monthRef = b.monthRef and m.type = :type
+            where b.user.id = :userId and b.monthRef = :monthRef
+            order by c.name asc
+            """)
+    List<BudgetStatusView> findStatus(@Param("userId") UUID userId,
+                                      @Param("monthRef") LocalDate monthRef,
+                                      @Param("type") TransactionType type);
 }
@@ -0,0 +1,9 @@
+package com.pocketfinance.backend.domain.repository;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface CategoryBulkRepository {
+
+    int insertMissing(UUID userId, Map<String, String> colorsByName);
+}
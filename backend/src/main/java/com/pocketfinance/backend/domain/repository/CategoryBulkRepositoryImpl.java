@@ -0,0 +1,44 @@
+package com.pocketfinance.backend.domain.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class CategoryBulkRepositoryImpl implements CategoryBulkRepository {
+
+    private static final String INSERT_IGNORING_DUPLICATES = """
+            INSERT INTO category (id, user_id, name, color, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    CategoryBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertMissing(UUID userId, Map<String, String> colorsByName) {
+        if (colorsByName.isEmpty()) {
+            return 0;
+        }
+
+        // created_at/updated_at are timestamp without time zone holding UTC wall time, like Hibernate
+        // (jdbc.time_zone=UTC) and the COPY import writer; Timestamp.from would render in the JVM zone.
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC));
+        List<Object[]> rows = new ArrayList<>(colorsByName.size());
+        colorsByName.forEach((name, color) -> rows.add(new Object[]{UUID.randomUUID(), userId, name, color, now, now}));
+
+        int inserted = 0;
+        for (int count : jdbcTemplate.batchUpdate(INSERT_IGNORING_DUPLICATES, rows)) {
+            inserted += Math.max(count, 0);
+        }
+        return inserted;
+    }
+}
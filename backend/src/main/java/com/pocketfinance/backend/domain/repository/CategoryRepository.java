@@ -1,16 +1,24 @@
 package com.pocketfinance.backend.domain.repository;
 
 import com.pocketfinance.backend.domain.model.Category;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CategoryRepository extends JpaRepository<Category, UUID> {
+public interface CategoryRepository extends JpaRepository<Category, UUID>, CategoryBulkRepository {
 
     List<Category> findByUserIdOrderByNameAsc(UUID userId);
 
     Optional<Category> findByIdAndUserId(UUID id, UUID userId);
 
+    List<Category> findByUserIdAndIdIn(UUID userId, Collection<UUID> ids);
+
     Optional<Category> findByUserIdAndNameIgnoreCase(UUID userId, String name);
+
+    @Query("select c from Category c where c.user.id = :userId and lower(c.name) in :names")
+    List<Category> findByUserIdAndLowerNameIn(@Param("userId") UUID userId, @Param("names") Collection<String> names);
 }
@@ -0,0 +1,15 @@
+package com.pocketfinance.backend.domain.repository;
+
+import com.pocketfinance.backend.api.dto.TransactionResponse;
+import com.pocketfinance.backend.domain.model.FinanceTransaction;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface FinanceTransactionReadRepository {
+
+    List<TransactionResponse> findResponses(Specification<FinanceTransaction> specification, Sort sort, long offset, int limit);
+
+    Stream<TransactionResponse> streamResponses(Specification<FinanceTransaction> specification, Sort sort, int fetchSize);
+}
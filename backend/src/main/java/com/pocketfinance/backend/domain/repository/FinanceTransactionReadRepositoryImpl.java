@@ -0,0 +1,73 @@
+package com.pocketfinance.backend.domain.repository;
+
+import com.pocketfinance.backend.api.dto.TransactionResponse;
+import com.pocketfinance.backend.domain.model.Category;
+import com.pocketfinance.backend.domain.model.FinanceTransaction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+class FinanceTransactionReadRepositoryImpl implements FinanceTransactionReadRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TransactionResponse> findResponses(Specification<FinanceTransaction> specification, Sort sort, long offset, int limit) {
+        TypedQuery<TransactionResponse> query = createQuery(specification, sort);
+        query.setFirstResult(Math.toIntExact(offset));
+        if (limit > 0) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<TransactionResponse> streamResponses(Specification<FinanceTransaction> specification, Sort sort, int fetchSize) {
+        return createQuery(specification, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private TypedQuery<TransactionResponse> createQuery(Specification<FinanceTransaction> specification, Sort sort) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> query = builder.createQuery(TransactionResponse.class);
+        Root<FinanceTransaction> root = query.from(FinanceTransaction.class);
+        Join<FinanceTransaction, Category> category = root.join("category");
+
+        query.select(builder.construct(TransactionResponse.class,
+                root.get("id"),
+                category.get("id"),
+                category.get("name"),
+                root.get("type"),
+                root.get("description"),
+                root.get("amount"),
+                root.get("date"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<Order> orders = new ArrayList<>(query.getOrderList());
+        orders.addAll(QueryUtils.toOrders(sort, root, builder));
+        query.orderBy(orders);
+
+        return entityManager.createQuery(query);
+    }
+}
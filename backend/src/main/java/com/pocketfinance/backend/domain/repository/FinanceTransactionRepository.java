@@ -1,12 +1,28 @@
 package com.pocketfinance.backend.domain.repository;
 
 import com.pocketfinance.backend.domain.model.FinanceTransaction;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface FinanceTransactionRepository extends JpaRepository<FinanceTransaction, UUID>, JpaSpecificationExecutor<FinanceTransaction> {
+public interface FinanceTransactionRepository extends JpaRepository<FinanceTransaction, UUID>,
+        JpaSpecificationExecutor<FinanceTransaction>,
+        FinanceTransactionReadRepository {
 
     Optional<FinanceTransaction> findByIdAndUserId(UUID id, UUID userId);
+
+    Optional<FinanceTransaction> findByIdAndUserIdAndDate(UUID id, UUID userId, LocalDate date);
+
+    @EntityGraph(attributePaths = "category")
+    List<FinanceTransaction> findByUserIdAndIdIn(UUID userId, Collection<UUID> ids);
+
+    @EntityGraph(attributePaths = "category")
+    List<FinanceTransaction> findTop5ByUserIdAndDateBetweenOrderByDateDescCreatedAtDesc(UUID userId,
+                                                                                       LocalDate start,
+                                                                                       LocalDate end);
 }
@@ -0,0 +1,32 @@
+package com.pocketfinance.backend.domain.repository;
+
+import com.pocketfinance.backend.domain.model.ImportJobRecord;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ImportJobRecordRepository extends JpaRepository<ImportJobRecord, UUID> {
+
+    Optional<ImportJobRecord> findByIdAndUserId(UUID id, UUID userId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ImportJobRecord j where j.finishedAt < :threshold")
+    int deleteFinishedBefore(@Param("threshold") Instant threshold);
+
+    // Jobs whose instance stopped before finishing them are never updated again.
+    @Transactional
+    @Modifying
+    @Query("""
+            update ImportJobRecord j
+            set j.status = com.pocketfinance.backend.domain.model.ImportJobStatus.FAILED,
+                j.error = :error, j.finishedAt = :now, j.updatedAt = :now
+            where j.finishedAt is null and j.updatedAt < :threshold
+            """)
+    int failAbandoned(@Param("threshold") Instant threshold, @Param("now") Instant now, @Param("error") String error);
+}
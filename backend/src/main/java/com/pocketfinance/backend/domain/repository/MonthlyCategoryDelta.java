@@ -0,0 +1,16 @@
+package com.pocketfinance.backend.domain.repository;
+
+import com.pocketfinance.backend.domain.model.TransactionType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record MonthlyCategoryDelta(
+        UUID userId,
+        LocalDate monthRef,
+        UUID categoryId,
+        TransactionType type,
+        BigDecimal amount,
+        long count
+) {
+}
@@ -0,0 +1,47 @@
+package com.pocketfinance.backend.domain.repository;
+
+import com.pocketfinance.backend.domain.model.MonthlyCategoryTotal;
+import com.pocketfinance.backend.domain.model.MonthlyCategoryTotalId;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.domain.repository.projection.CategoryTotalView;
+import com.pocketfinance.backend.domain.repository.projection.TrendTotalView;
+import com.pocketfinance.backend.domain.repository.projection.TypeTotalView;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MonthlyCategoryTotalRepository extends JpaRepository<MonthlyCategoryTotal, MonthlyCategoryTotalId>,
+        MonthlyCategoryTotalWriteRepository {
+
+    @Query("""
+            select m.type as type, sum(m.total) as total
+            from MonthlyCategoryTotal m
+            where m.userId = :userId and m.monthRef = :monthRef
+            group by m.type
+            """)
+    List<TypeTotalView> sumByType(@Param("userId") UUID userId, @Param("monthRef") LocalDate monthRef);
+
+    @Query("""
+            select c.id as categoryId, c.name as categoryName, c.color as categoryColor, m.total as total
+            from MonthlyCategoryTotal m
+            join m.category c
+            where m.userId = :userId and m.type = :type and m.monthRef = :monthRef and m.txCount > 0
+            """)
+    List<CategoryTotalView> findCategoryTotals(@Param("userId") UUID userId,
+                                               @Param("type") TransactionType type,
+                                               @Param("monthRef") LocalDate monthRef);
+
+    @Query("""
+            select m.monthRef as monthRef, c.id as categoryId, c.name as categoryName, c.color as categoryColor,
+                   m.type as type, m.total as total
+            from MonthlyCategoryTotal m
+            join m.category c
+            where m.userId = :userId and m.monthRef between :start and :end and m.txCount > 0
+            """)
+    List<TrendTotalView> findTrendTotals(@Param("userId") UUID userId,
+                                         @Param("start") LocalDate start,
+                                         @Param("end") LocalDate end);
+}
@@ -0,0 +1,11 @@
+package com.pocketfinance.backend.domain.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface MonthlyCategoryTotalWriteRepository {
+
+    void applyDeltas(Collection<MonthlyCategoryDelta> deltas);
+
+    int rebuild(UUID userId);
+}
@@ -0,0 +1,84 @@
+package com.pocketfinance.backend.domain.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class MonthlyCategoryTotalWriteRepositoryImpl implements MonthlyCategoryTotalWriteRepository {
+
+    private static final String INSERT_EMPTY = """
+            INSERT INTO monthly_category_total (user_id, month_ref, category_id, type, total, tx_count)
+            VALUES (?, ?, ?, ?, 0, 0)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String APPLY_DELTA = """
+            UPDATE monthly_category_total
+            SET total = total + ?, tx_count = tx_count + ?
+            WHERE user_id = ? AND month_ref = ? AND category_id = ? AND type = ?
+            """;
+
+    // Rebuilds and delta writers serialize on the owning app_user rows. Every write already bumps
+    // app_user.data_version in the same transaction, so this adds no contention of its own.
+    private static final String LOCK_USER = "SELECT id FROM app_user WHERE id = ? FOR UPDATE";
+
+    private static final String LOCK_ALL_USERS = "SELECT id FROM app_user ORDER BY id FOR UPDATE";
+
+    private static final String DELETE_ALL = "DELETE FROM monthly_category_total";
+
+    private static final String DELETE_FOR_USER = "DELETE FROM monthly_category_total WHERE user_id = ?";
+
+    private static final String REBUILD = """
+            INSERT INTO monthly_category_total (user_id, month_ref, category_id, type, total, tx_count)
+            SELECT user_id, CAST(date_trunc('month', date) AS DATE), category_id, type, SUM(amount), COUNT(*)
+            FROM finance_transaction
+            %s
+            GROUP BY user_id, CAST(date_trunc('month', date) AS DATE), category_id, type
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    MonthlyCategoryTotalWriteRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void applyDeltas(Collection<MonthlyCategoryDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> keys = new ArrayList<>(deltas.size());
+        List<Object[]> updates = new ArrayList<>(deltas.size());
+        TreeSet<UUID> userIds = new TreeSet<>();
+        for (MonthlyCategoryDelta delta : deltas) {
+            userIds.add(delta.userId());
+            keys.add(new Object[]{delta.userId(), delta.monthRef(), delta.categoryId(), delta.type().name()});
+            updates.add(new Object[]{delta.amount(), delta.count(),
+                    delta.userId(), delta.monthRef(), delta.categoryId(), delta.type().name()});
+        }
+
+        userIds.forEach(this::lockUser);
+        jdbcTemplate.batchUpdate(INSERT_EMPTY, keys);
+        jdbcTemplate.batchUpdate(APPLY_DELTA, updates);
+    }
+
+    @Override
+    public int rebuild(UUID userId) {
+        if (userId == null) {
+            jdbcTemplate.queryForList(LOCK_ALL_USERS, UUID.class);
+            jdbcTemplate.update(DELETE_ALL);
+            return jdbcTemplate.update(REBUILD.formatted(""));
+        }
+        lockUser(userId);
+        jdbcTemplate.update(DELETE_FOR_USER, userId);
+        return jdbcTemplate.update(REBUILD.formatted("WHERE user_id = ?"), userId);
+    }
+
+    private void lockUser(UUID userId) {
+        jdbcTemplate.queryForList(LOCK_USER, UUID.class, userId);
+    }
+}
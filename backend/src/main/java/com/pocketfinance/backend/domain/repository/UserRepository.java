@@ -4,7 +4,17 @@ import com.pocketfinance.backend.domain.model.User;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmailIgnoreCase(String email);
+
+    @Query("select u.dataVersion from User u where u.id = :userId")
+    Optional<Long> findDataVersion(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "UPDATE app_user SET data_version = data_version + 1 WHERE id = :userId", nativeQuery = true)
+    int incrementDataVersion(@Param("userId") UUID userId);
 }
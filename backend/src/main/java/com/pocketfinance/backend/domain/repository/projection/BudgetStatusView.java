@@ -0,0 +1,22 @@
+package com.pocketfinance.backend.domain.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface BudgetStatusView {
+
+    UUID getBudgetId();
+
+    UUID getCategoryId();
+
+    String getCategoryName();
+
+    String getCategoryColor();
+
+    LocalDate getMonthRef();
+
+    BigDecimal getBudgeted();
+
+    BigDecimal getSpent();
+}
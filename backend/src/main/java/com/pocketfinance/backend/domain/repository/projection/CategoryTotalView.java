@@ -0,0 +1,15 @@
+package com.pocketfinance.backend.domain.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface CategoryTotalView {
+
+    UUID getCategoryId();
+
+    String getCategoryName();
+
+    String getCategoryColor();
+
+    BigDecimal getTotal();
+}
@@ -0,0 +1,21 @@
+package com.pocketfinance.backend.domain.repository.projection;
+
+import com.pocketfinance.backend.domain.model.TransactionType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface TrendTotalView {
+
+    LocalDate getMonthRef();
+
+    UUID getCategoryId();
+
+    String getCategoryName();
+
+    String getCategoryColor();
+
+    TransactionType getType();
+
+    BigDecimal getTotal();
+}
@@ -0,0 +1,11 @@
+package com.pocketfinance.backend.domain.repository.projection;
+
+import com.pocketfinance.backend.domain.model.TransactionType;
+import java.math.BigDecimal;
+
+public interface TypeTotalView {
+
+    TransactionType getType();
+
+    BigDecimal getTotal();
+}
@@ -0,0 +1,49 @@
+package com.pocketfinance.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.pocketfinance.backend.config.AccessTokenCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccessTokenCache {
+
+    private final Cache<String, VerifiedAccessToken> cache;
+    private final TokenHashService tokenHashService;
+
+    public AccessTokenCache(AccessTokenCacheProperties properties,
+                            TokenHashService tokenHashService,
+                            MeterRegistry meterRegistry) {
+        this.tokenHashService = tokenHashService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(Expiry.creating((String digest, VerifiedAccessToken verified) -> remaining(verified)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "access-tokens");
+    }
+
+    public AppUserPrincipal get(String token, Function<String, VerifiedAccessToken> verifier) {
+        String digest = tokenHashService.hash(token);
+        VerifiedAccessToken verified = cache.get(digest, key -> verifier.apply(token));
+        if (!verified.expiresAt().isAfter(Instant.now())) {
+            cache.invalidate(digest);
+            return verifier.apply(token).principal();
+        }
+        return verified.principal();
+    }
+
+    private static Duration remaining(VerifiedAccessToken verified) {
+        Duration remaining = Duration.between(Instant.now(), verified.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    public record VerifiedAccessToken(AppUserPrincipal principal, Instant expiresAt) {
+    }
+}
@@ -3,11 +3,14 @@ package com.pocketfinance.backend.security;
 import com.pocketfinance.backend.config.JwtProperties;
 import com.pocketfinance.backend.domain.model.User;
 import com.pocketfinance.backend.exception.UnauthorizedException;
+import com.pocketfinance.backend.security.AccessTokenCache.VerifiedAccessToken;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -23,10 +26,17 @@ public class JwtService {
 
     private final JwtProperties jwtProperties;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final AccessTokenCache accessTokenCache;
 
-    public JwtService(JwtProperties jwtProperties) {
+    public JwtService(JwtProperties jwtProperties, AccessTokenCache accessTokenCache) {
         this.jwtProperties = jwtProperties;
         this.secretKey = buildKey(jwtProperties.secret());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .requireIssuer(jwtProperties.issuer())
+                .build();
+        this.accessTokenCache = accessTokenCache;
     }
 
     public String generateAccessToken(User user) {
@@ -55,7 +65,12 @@ public class JwtService {
                 .compact();
     }
 
+    @Timed("jwt.parse")
     public AppUserPrincipal parseAccessToken(String token) {
+        return accessTokenCache.get(token, this::verifyAccessToken);
+    }
+
+    private VerifiedAccessToken verifyAccessToken(String token) {
         Claims claims = parseClaims(token);
         if (!"access".equals(claims.get(CLAIM_TYPE, String.class))) {
             throw new UnauthorizedException("Token de acesso invalido.");
@@ -64,7 +79,9 @@ public class JwtService {
         UUID userId = parseUserId(claims.getSubject());
         String email = claims.get("email", String.class);
         String fullName = claims.get("name", String.class);
-        return new AppUserPrincipal(userId, email == null ? "" : email, fullName == null ? "" : fullName);
+        AppUserPrincipal principal =
+                new AppUserPrincipal(userId, email == null ? "" : email, fullName == null ? "" : fullName);
+        return new VerifiedAccessToken(principal, claims.getExpiration().toInstant());
     }
 
     public UUID parseRefreshToken(String token) {
@@ -81,12 +98,7 @@ public class JwtService {
 
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .requireIssuer(jwtProperties.issuer())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException ex) {
             throw new UnauthorizedException("Token invalido ou expirado.");
         }
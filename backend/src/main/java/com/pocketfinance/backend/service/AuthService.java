@@ -11,10 +11,11 @@ import com.pocketfinance.backend.domain.repository.UserRepository;
 import com.pocketfinance.backend.exception.UnauthorizedException;
 import com.pocketfinance.backend.security.JwtService;
 import com.pocketfinance.backend.security.TokenHashService;
+import io.micrometer.core.annotation.Timed;
 import java.time.Instant;
 import java.util.UUID;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -22,34 +23,37 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
     private final JwtService jwtService;
     private final TokenHashService tokenHashService;
     private final JwtProperties jwtProperties;
 
     public AuthService(UserRepository userRepository,
-                       PasswordEncoder passwordEncoder,
+                       PasswordVerifier passwordVerifier,
                        JwtService jwtService,
                        TokenHashService tokenHashService,
                        JwtProperties jwtProperties) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordVerifier = passwordVerifier;
         this.jwtService = jwtService;
         this.tokenHashService = tokenHashService;
         this.jwtProperties = jwtProperties;
     }
 
+    @Timed("auth.login")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse login(AuthLoginRequest request) {
         User user = userRepository.findByEmailIgnoreCase(request.email())
                 .orElseThrow(() -> new UnauthorizedException("Credenciais invalidas."));
 
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+        if (!passwordVerifier.matches(request.password(), user.getPasswordHash())) {
             throw new UnauthorizedException("Credenciais invalidas.");
         }
 
         return issueTokens(user);
     }
 
+    @Timed("auth.refresh")
     public AuthResponse refresh(RefreshTokenRequest request) {
         UUID userId = jwtService.parseRefreshToken(request.refreshToken());
         User user = userRepository.findById(userId)
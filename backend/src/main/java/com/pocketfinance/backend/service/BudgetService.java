@@ -2,18 +2,24 @@ package com.pocketfinance.backend.service;
 
 import com.pocketfinance.backend.api.dto.BudgetCreateRequest;
 import com.pocketfinance.backend.api.dto.BudgetResponse;
+import com.pocketfinance.backend.api.dto.BudgetStatusResponse;
 import com.pocketfinance.backend.api.dto.BudgetUpdateRequest;
+import com.pocketfinance.backend.api.dto.CategoryResponse;
 import com.pocketfinance.backend.domain.model.Budget;
-import com.pocketfinance.backend.domain.model.Category;
+import com.pocketfinance.backend.domain.model.TransactionType;
 import com.pocketfinance.backend.domain.model.User;
 import com.pocketfinance.backend.domain.repository.BudgetRepository;
 import com.pocketfinance.backend.domain.repository.UserRepository;
+import com.pocketfinance.backend.domain.repository.projection.BudgetStatusView;
 import com.pocketfinance.backend.exception.BadRequestException;
 import com.pocketfinance.backend.exception.NotFoundException;
 import com.pocketfinance.backend.exception.UnauthorizedException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,19 +27,24 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class BudgetService {
 
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
     private final BudgetRepository budgetRepository;
     private final UserRepository userRepository;
     private final CategoryService categoryService;
     private final MonthParser monthParser;
+    private final DataVersionService dataVersionService;
 
     public BudgetService(BudgetRepository budgetRepository,
                          UserRepository userRepository,
                          CategoryService categoryService,
-                         MonthParser monthParser) {
+                         MonthParser monthParser,
+                         DataVersionService dataVersionService) {
         this.budgetRepository = budgetRepository;
         this.userRepository = userRepository;
         this.categoryService = categoryService;
         this.monthParser = monthParser;
+        this.dataVersionService = dataVersionService;
     }
 
     @Transactional(readOnly = true)
@@ -46,9 +57,19 @@ public class BudgetService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public List<BudgetStatusResponse> status(UUID userId, String month) {
+        LocalDate monthRef = monthParser.parseOptionalMonth(month)
+                .orElse(LocalDate.now().withDayOfMonth(1));
+        return budgetRepository.findStatus(userId, monthRef, TransactionType.EXPENSE)
+                .stream()
+                .map(this::toStatusResponse)
+                .toList();
+    }
+
     public BudgetResponse create(UUID userId, BudgetCreateRequest request) {
         LocalDate monthRef = monthParser.parseRequiredMonth(request.month(), "month");
-        Category category = categoryService.getByIdAndUser(request.categoryId(), userId);
+        CategoryResponse category = categoryService.getOwned(userId, request.categoryId());
 
         if (budgetRepository.existsByUserIdAndMonthRefAndCategoryId(userId, monthRef, request.categoryId())) {
             throw new BadRequestException("Budget ja cadastrado para user+month+category.");
@@ -59,25 +80,57 @@ public class BudgetService {
 
         Budget budget = new Budget();
         budget.setUser(user);
-        budget.setCategory(category);
+        budget.setCategory(categoryService.reference(category.id()));
         budget.setMonthRef(monthRef);
         budget.setAmount(request.amount());
 
-        return toResponse(budgetRepository.save(budget));
+        Budget saved;
+        try {
+            saved = budgetRepository.saveAndFlush(budget);
+        } catch (DataIntegrityViolationException ex) {
+            throw categoryService.rejectMissingCategory(userId, ex);
+        }
+        dataVersionService.bump(userId);
+        return toResponse(saved, category.name());
     }
 
     public BudgetResponse update(UUID userId, UUID id, BudgetUpdateRequest request) {
         Budget budget = budgetRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new NotFoundException("Budget nao encontrado."));
         budget.setAmount(request.amount());
-        return toResponse(budgetRepository.save(budget));
+        Budget saved = budgetRepository.save(budget);
+        dataVersionService.bump(userId);
+        return toResponse(saved);
+    }
+
+    private BudgetStatusResponse toStatusResponse(BudgetStatusView view) {
+        BigDecimal budgeted = view.getBudgeted();
+        BigDecimal spent = view.getSpent();
+        BigDecimal percentUsed = budgeted.signum() > 0
+                ? spent.multiply(ONE_HUNDRED).divide(budgeted, 1, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        return new BudgetStatusResponse(
+                view.getBudgetId(),
+                view.getCategoryId(),
+                view.getCategoryName(),
+                view.getCategoryColor(),
+                view.getMonthRef(),
+                budgeted,
+                spent,
+                budgeted.subtract(spent),
+                percentUsed
+        );
     }
 
     private BudgetResponse toResponse(Budget budget) {
+        return toResponse(budget, budget.getCategory().getName());
+    }
+
+    private BudgetResponse toResponse(Budget budget, String categoryName) {
         return new BudgetResponse(
                 budget.getId(),
                 budget.getCategory().getId(),
-                budget.getCategory().getName(),
+                categoryName,
                 budget.getMonthRef(),
                 budget.getAmount()
         );
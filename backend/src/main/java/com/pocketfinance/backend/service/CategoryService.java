@@ -9,7 +9,14 @@ import com.pocketfinance.backend.domain.repository.CategoryRepository;
 import com.pocketfinance.backend.domain.repository.UserRepository;
 import com.pocketfinance.backend.exception.BadRequestException;
 import com.pocketfinance.backend.exception.UnauthorizedException;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
@@ -19,20 +26,31 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class CategoryService {
 
+    private static final String NOT_OWNED = "Categoria nao pertence ao usuario.";
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+    private static final String H2_MISSING_PARENT = "23506";
+
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
+    private final CategoryCache categoryCache;
+    private final DataVersionService dataVersionService;
 
-    public CategoryService(CategoryRepository categoryRepository, UserRepository userRepository) {
+    public CategoryService(CategoryRepository categoryRepository,
+                           UserRepository userRepository,
+                           CategoryCache categoryCache,
+                           DataVersionService dataVersionService) {
         this.categoryRepository = categoryRepository;
         this.userRepository = userRepository;
+        this.categoryCache = categoryCache;
+        this.dataVersionService = dataVersionService;
     }
 
     @Transactional(readOnly = true)
     public List<CategoryResponse> list(UUID userId) {
-        return categoryRepository.findByUserIdOrderByNameAsc(userId)
+        return categoryCache.get(userId, key -> categoryRepository.findByUserIdOrderByNameAsc(key)
                 .stream()
                 .map(this::toResponse)
-                .toList();
+                .toList());
     }
 
     public CategoryResponse create(UUID userId, CategoryCreateRequest request) {
@@ -49,11 +67,14 @@ public class CategoryService {
         category.setName(normalizedName);
         category.setColor(request.color().trim());
 
-        return toResponse(categoryRepository.save(category));
+        Category saved = categoryRepository.save(category);
+        categoryCache.invalidate(userId);
+        dataVersionService.bump(userId);
+        return toResponse(saved);
     }
 
     public CategoryResponse update(UUID userId, UUID categoryId, CategoryUpdateRequest request) {
-        Category category = getByIdAndUser(categoryId, userId);
+        Category category = loadOwned(categoryId, userId);
         String normalizedName = request.name().trim();
 
         categoryRepository.findByUserIdAndNameIgnoreCase(userId, normalizedName)
@@ -64,37 +85,98 @@ public class CategoryService {
 
         category.setName(normalizedName);
         category.setColor(request.color().trim());
-        return toResponse(categoryRepository.save(category));
+        Category saved = categoryRepository.save(category);
+        categoryCache.invalidate(userId);
+        dataVersionService.bump(userId);
+        return toResponse(saved);
     }
 
     public void delete(UUID userId, UUID categoryId) {
-        Category category = getByIdAndUser(categoryId, userId);
+        Category category = loadOwned(categoryId, userId);
         try {
             categoryRepository.delete(category);
             categoryRepository.flush();
+            categoryCache.invalidate(userId);
+            dataVersionService.bump(userId);
         } catch (DataIntegrityViolationException ex) {
             throw new BadRequestException("Nao foi possivel excluir categoria com transacoes ou metas vinculadas.");
         }
     }
 
+    // Ownership is checked against the cached snapshot, so transaction and budget writes do not query category;
+    // the association itself is set through reference().
     @Transactional(readOnly = true)
-    public Category getByIdAndUser(UUID categoryId, UUID userId) {
-        return categoryRepository.findByIdAndUserId(categoryId, userId)
-                .orElseThrow(() -> new BadRequestException("Categoria nao pertence ao usuario."));
+    public CategoryResponse getOwned(UUID userId, UUID categoryId) {
+        for (CategoryResponse category : list(userId)) {
+            if (category.id().equals(categoryId)) {
+                return category;
+            }
+        }
+        throw new BadRequestException(NOT_OWNED);
     }
 
     @Transactional(readOnly = true)
-    public Category findOrCreateByName(UUID userId, String categoryName, String fallbackColor) {
-        return categoryRepository.findByUserIdAndNameIgnoreCase(userId, categoryName)
-                .orElseGet(() -> {
-                    User user = userRepository.findById(userId)
-                            .orElseThrow(() -> new UnauthorizedException("Usuario nao encontrado."));
-                    Category category = new Category();
-                    category.setUser(user);
-                    category.setName(categoryName.trim());
-                    category.setColor(fallbackColor);
-                    return categoryRepository.save(category);
-                });
+    public Map<UUID, CategoryResponse> mapOwned(UUID userId, Collection<UUID> categoryIds) {
+        Set<UUID> wanted = new HashSet<>(categoryIds);
+        Map<UUID, CategoryResponse> categories = new HashMap<>();
+        for (CategoryResponse category : list(userId)) {
+            if (wanted.contains(category.id())) {
+                categories.put(category.id(), category);
+            }
+        }
+        return categories;
+    }
+
+    public Category reference(UUID categoryId) {
+        return categoryRepository.getReferenceById(categoryId);
+    }
+
+    // A category deleted behind the snapshot (on another node, or before this entry expired) only shows up as a
+    // foreign key violation when the write flushes. It gets the same 400 as a category the user does not own.
+    public RuntimeException rejectMissingCategory(UUID userId, DataIntegrityViolationException ex) {
+        if (!isForeignKeyViolation(ex)) {
+            return ex;
+        }
+        categoryCache.invalidate(userId);
+        return new BadRequestException(NOT_OWNED);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Category> mapByLowerName(UUID userId) {
+        Map<String, Category> categories = new HashMap<>();
+        for (Category category : categoryRepository.findByUserIdOrderByNameAsc(userId)) {
+            categories.put(category.getName().toLowerCase(Locale.ROOT), category);
+        }
+        return categories;
+    }
+
+    public List<Category> createMissing(UUID userId, Map<String, String> colorsByName) {
+        if (colorsByName.isEmpty()) {
+            return List.of();
+        }
+        categoryRepository.insertMissing(userId, colorsByName);
+        categoryCache.invalidate(userId);
+        dataVersionService.bump(userId);
+        List<String> names = colorsByName.keySet().stream()
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .toList();
+        return categoryRepository.findByUserIdAndLowerNameIn(userId, names);
+    }
+
+    private Category loadOwned(UUID categoryId, UUID userId) {
+        return categoryRepository.findByIdAndUserId(categoryId, userId)
+                .orElseThrow(() -> new BadRequestException(NOT_OWNED));
+    }
+
+    private static boolean isForeignKeyViolation(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                String state = sqlException.getSQLState();
+                // 23503 is PostgreSQL's foreign_key_violation; H2 reports a missing parent row as 23506.
+                return FOREIGN_KEY_VIOLATION.equals(state) || H2_MISSING_PARENT.equals(state);
+            }
+        }
+        return false;
     }
 
     private CategoryResponse toResponse(Category category) {
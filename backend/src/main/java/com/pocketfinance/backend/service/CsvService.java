@@ -1,26 +1,40 @@
 package com.pocketfinance.backend.service;
 
 import com.pocketfinance.backend.api.dto.CsvImportResponse;
+import com.pocketfinance.backend.api.dto.TransactionResponse;
 import com.pocketfinance.backend.domain.model.Category;
 import com.pocketfinance.backend.domain.model.FinanceTransaction;
 import com.pocketfinance.backend.domain.model.TransactionType;
 import com.pocketfinance.backend.domain.model.User;
-import com.pocketfinance.backend.domain.repository.FinanceTransactionRepository;
 import com.pocketfinance.backend.domain.repository.UserRepository;
 import com.pocketfinance.backend.exception.BadRequestException;
 import com.pocketfinance.backend.exception.UnauthorizedException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.StringWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVPrinter;
@@ -28,40 +42,88 @@ import org.apache.commons.csv.CSVRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 @Transactional
 public class CsvService {
     private static final Logger log = LoggerFactory.getLogger(CsvService.class);
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+    private static final int MAX_CATEGORY_NAME_LENGTH = 80;
 
     private final UserRepository userRepository;
     private final CategoryService categoryService;
-    private final FinanceTransactionRepository transactionRepository;
+    private final TransactionBatchWriter batchWriter;
     private final TransactionService transactionService;
+    private final MonthlyRollupService rollupService;
+    private final MonthParser monthParser;
+    private final DataVersionService dataVersionService;
+    private final ResponseCache responseCache;
+    private final TransactionTemplate importTransactionTemplate;
+    private final DistributionSummary importedRows;
+    private final DistributionSummary exportedRows;
+    private final Timer exportStreamTimer;
 
     public CsvService(UserRepository userRepository,
                       CategoryService categoryService,
-                      FinanceTransactionRepository transactionRepository,
-                      TransactionService transactionService) {
+                      TransactionBatchWriter batchWriter,
+                      TransactionService transactionService,
+                      MonthlyRollupService rollupService,
+                      MonthParser monthParser,
+                      DataVersionService dataVersionService,
+                      ResponseCache responseCache,
+                      PlatformTransactionManager transactionManager,
+                      MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
         this.categoryService = categoryService;
-        this.transactionRepository = transactionRepository;
+        this.batchWriter = batchWriter;
         this.transactionService = transactionService;
+        this.rollupService = rollupService;
+        this.monthParser = monthParser;
+        this.dataVersionService = dataVersionService;
+        this.responseCache = responseCache;
+        this.importTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.importedRows = DistributionSummary.builder("csv.import.rows")
+                .description("Rows imported per CSV file")
+                .baseUnit("rows")
+                .register(meterRegistry);
+        this.exportedRows = DistributionSummary.builder("csv.export.rows")
+                .description("Rows written per CSV export")
+                .baseUnit("rows")
+                .register(meterRegistry);
+        this.exportStreamTimer = Timer.builder("csv.export.stream")
+                .description("Time spent streaming a CSV export to the client")
+                .register(meterRegistry);
     }
 
+    @Timed("csv.import")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CsvImportResponse importSimpleCsv(UUID userId, MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new BadRequestException("Arquivo CSV obrigatorio.");
         }
 
+        try (InputStream input = file.getInputStream()) {
+            return importCsv(userId, input, new ImportProgress());
+        } catch (IOException ex) {
+            throw new BadRequestException("Nao foi possivel ler o arquivo CSV.");
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CsvImportResponse importCsv(UUID userId, InputStream input, ImportProgress progress) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UnauthorizedException("Usuario nao encontrado."));
 
-        int skipped = 0;
-        List<FinanceTransaction> toSave = new java.util.ArrayList<>();
-        Map<String, Category> categoryCache = new HashMap<>();
+        long startedAt = System.nanoTime();
+        int chunkSize = batchWriter.chunkSize();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        Map<String, Category> categoryCache = categoryService.mapByLowerName(userId);
 
         CSVFormat format = CSVFormat.DEFAULT.builder()
                 .setHeader()
@@ -71,67 +133,151 @@ public class CsvService {
                 .setTrim(true)
                 .build();
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
              CSVParser parser = format.parse(reader)) {
             validateCsvHeaders(parser);
 
             for (CSVRecord record : parser) {
                 try {
-                    LocalDate date = LocalDate.parse(requiredColumn(record, "date"));
-                    String description = requiredColumn(record, "description");
-                    BigDecimal amount = new BigDecimal(requiredColumn(record, "amount"));
-                    TransactionType type = TransactionType.valueOf(requiredColumn(record, "type").toUpperCase());
-                    String categoryName = requiredColumn(record, "category");
-
-                    String normalizedCategoryKey = categoryName.trim().toLowerCase();
-                    Category category = categoryCache.computeIfAbsent(normalizedCategoryKey,
-                            key -> categoryService.findOrCreateByName(userId, categoryName.trim(), colorFromName(categoryName)));
-
-                    FinanceTransaction transaction = new FinanceTransaction();
-                    transaction.setUser(user);
-                    transaction.setCategory(category);
-                    transaction.setType(type);
-                    transaction.setDescription(description.trim());
-                    transaction.setAmount(amount);
-                    transaction.setDate(date);
-                    toSave.add(transaction);
+                    chunk.add(parseRow(record, user));
+                    progress.rowParsed();
                 } catch (Exception ex) {
                     log.warn("CSV import skipped row {}: {}", record.getRecordNumber(), ex.getMessage());
-                    skipped++;
+                    progress.rowSkipped();
+                }
+
+                if (chunk.size() == chunkSize) {
+                    progress.rowsImported(saveChunk(userId, chunk, categoryCache, progress));
+                    chunk = new ArrayList<>(chunkSize);
                 }
             }
         } catch (IOException ex) {
             throw new BadRequestException("Nao foi possivel ler o arquivo CSV.");
         }
 
-        if (!toSave.isEmpty()) {
-            transactionRepository.saveAll(toSave);
-        }
+        progress.rowsImported(saveChunk(userId, chunk, categoryCache, progress));
+        int imported = progress.imported();
+        importedRows.record(imported);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        long rowsPerSecond = imported * 1000L / Math.max(elapsedMillis, 1);
+        log.info("CSV import via {}: {} rows in {} ms ({} rows/s)", batchWriter.engine(), imported, elapsedMillis, rowsPerSecond);
+        return new CsvImportResponse(imported, progress.skipped(), batchWriter.engine(), elapsedMillis, rowsPerSecond);
+    }
 
-        return new CsvImportResponse(toSave.size(), skipped);
+    public String importEngine() {
+        return batchWriter.engine();
     }
 
-    @Transactional(readOnly = true)
-    public byte[] exportCsv(UUID userId, String month, UUID categoryId) {
-        List<FinanceTransaction> transactions = transactionService.findForExport(userId, month, categoryId);
+    @Timed("csv.export")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StreamingResponseBody exportCsv(UUID userId, String month, UUID categoryId) {
+        monthParser.parseOptionalMonth(month);
+        return outputStream -> exportStreamTimer.record(() ->
+                responseCache.stream(userId, "export/csv", Arrays.asList(month, categoryId), outputStream,
+                        target -> exportedRows.record(writeExport(userId, month, categoryId, target))));
+    }
+
+    private int writeExport(UUID userId, String month, UUID categoryId, OutputStream outputStream) {
         CSVFormat format = CSVFormat.DEFAULT.builder()
                 .setHeader("date", "description", "amount", "type", "category")
                 .build();
 
-        try (StringWriter writer = new StringWriter(); CSVPrinter printer = new CSVPrinter(writer, format)) {
-            for (FinanceTransaction transaction : transactions) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        int rows = 0;
+        try (Stream<TransactionResponse> transactions = transactionService.streamForExport(userId, month, categoryId)) {
+            CSVPrinter printer = new CSVPrinter(writer, format);
+            for (TransactionResponse transaction : (Iterable<TransactionResponse>) transactions::iterator) {
                 printer.printRecord(
-                        transaction.getDate(),
-                        transaction.getDescription(),
-                        transaction.getAmount(),
-                        transaction.getType(),
-                        transaction.getCategory().getName()
+                        transaction.date(),
+                        transaction.description(),
+                        transaction.amount(),
+                        transaction.type(),
+                        transaction.categoryName()
                 );
+                rows++;
             }
             printer.flush();
-            return writer.toString().getBytes(StandardCharsets.UTF_8);
+            return rows;
         } catch (IOException ex) {
-            throw new BadRequestException("Falha ao gerar CSV.");
+            throw new UncheckedIOException("Falha ao gerar CSV.", ex);
+        }
+    }
+
+    private ImportRow parseRow(CSVRecord record, User user) {
+        LocalDate date = LocalDate.parse(requiredColumn(record, "date"));
+        String description = requiredColumn(record, "description").trim();
+        BigDecimal amount = new BigDecimal(requiredColumn(record, "amount"));
+        TransactionType type = TransactionType.valueOf(requiredColumn(record, "type").toUpperCase(Locale.ROOT));
+        String categoryName = requiredColumn(record, "category").trim();
+
+        if (amount.signum() <= 0) {
+            throw new BadRequestException("amount deve ser maior que zero.");
+        }
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new BadRequestException("description excede " + MAX_DESCRIPTION_LENGTH + " caracteres.");
+        }
+        if (categoryName.length() > MAX_CATEGORY_NAME_LENGTH) {
+            throw new BadRequestException("category excede " + MAX_CATEGORY_NAME_LENGTH + " caracteres.");
+        }
+
+        FinanceTransaction transaction = new FinanceTransaction();
+        transaction.setUser(user);
+        transaction.setType(type);
+        transaction.setDescription(description);
+        transaction.setAmount(amount);
+        transaction.setDate(date);
+        return new ImportRow(transaction, categoryName);
+    }
+
+    private int saveChunk(UUID userId, List<ImportRow> chunk, Map<String, Category> categoryCache,
+                          ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        resolveCategories(userId, chunk, categoryCache);
+
+        List<FinanceTransaction> transactions = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            Category category = categoryCache.get(row.categoryName().toLowerCase(Locale.ROOT));
+            if (category == null) {
+                log.warn("CSV import skipped row with unresolved category: {}", row.categoryName());
+                continue;
+            }
+            FinanceTransaction transaction = row.transaction();
+            transaction.setCategory(category);
+            transactions.add(transaction);
+        }
+        progress.rowsSkipped(chunk.size() - transactions.size());
+        if (transactions.isEmpty()) {
+            return 0;
+        }
+        return importTransactionTemplate.execute(status -> {
+            int written = batchWriter.write(transactions);
+            if (written != transactions.size()) {
+                throw new BadRequestException("Categorias removidas durante a importacao. Tente novamente.");
+            }
+            rollupService.recordAll(transactions);
+            dataVersionService.bump(userId);
+            return written;
+        });
+    }
+
+    private void resolveCategories(UUID userId, List<ImportRow> chunk, Map<String, Category> categoryCache) {
+        Map<String, String> missingNames = new LinkedHashMap<>();
+        for (ImportRow row : chunk) {
+            String key = row.categoryName().toLowerCase(Locale.ROOT);
+            if (!categoryCache.containsKey(key)) {
+                missingNames.putIfAbsent(key, row.categoryName());
+            }
+        }
+        if (missingNames.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> colorsByName = new LinkedHashMap<>();
+        missingNames.values().forEach(name -> colorsByName.put(name, colorFromName(name)));
+        for (Category category : categoryService.createMissing(userId, colorsByName)) {
+            categoryCache.put(category.getName().toLowerCase(Locale.ROOT), category);
         }
     }
 
@@ -154,11 +300,14 @@ public class CsvService {
         }
     }
 
-    private String colorFromName(String name) {
+    static String colorFromName(String name) {
         int hash = Math.abs(name.hashCode());
         int r = (hash % 128) + 64;
         int g = ((hash / 7) % 128) + 64;
         int b = ((hash / 13) % 128) + 64;
         return String.format("#%02X%02X%02X", r, g, b);
     }
+
+    private record ImportRow(FinanceTransaction transaction, String categoryName) {
+    }
 }
@@ -0,0 +1,101 @@
+package com.pocketfinance.backend.service;
+
+import com.pocketfinance.backend.api.dto.DashboardCategoryResponse;
+import com.pocketfinance.backend.api.dto.DashboardSummaryResponse;
+import com.pocketfinance.backend.api.dto.TransactionResponse;
+import com.pocketfinance.backend.domain.model.Budget;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.domain.repository.BudgetRepository;
+import com.pocketfinance.backend.domain.repository.FinanceTransactionRepository;
+import com.pocketfinance.backend.domain.repository.MonthlyCategoryTotalRepository;
+import com.pocketfinance.backend.domain.repository.projection.CategoryTotalView;
+import com.pocketfinance.backend.domain.repository.projection.TypeTotalView;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class DashboardService {
+
+    private final FinanceTransactionRepository transactionRepository;
+    private final MonthlyCategoryTotalRepository totalRepository;
+    private final BudgetRepository budgetRepository;
+    private final MonthParser monthParser;
+
+    public DashboardService(FinanceTransactionRepository transactionRepository,
+                            MonthlyCategoryTotalRepository totalRepository,
+                            BudgetRepository budgetRepository,
+                            MonthParser monthParser) {
+        this.transactionRepository = transactionRepository;
+        this.totalRepository = totalRepository;
+        this.budgetRepository = budgetRepository;
+        this.monthParser = monthParser;
+    }
+
+    public DashboardSummaryResponse summary(UUID userId, String month) {
+        LocalDate start = monthParser.parseOptionalMonth(month)
+                .orElse(LocalDate.now().withDayOfMonth(1));
+        LocalDate end = start.plusMonths(1).minusDays(1);
+
+        BigDecimal income = BigDecimal.ZERO;
+        BigDecimal expense = BigDecimal.ZERO;
+        for (TypeTotalView total : totalRepository.sumByType(userId, start)) {
+            if (total.getType() == TransactionType.INCOME) {
+                income = total.getTotal();
+            } else if (total.getType() == TransactionType.EXPENSE) {
+                expense = total.getTotal();
+            }
+        }
+
+        List<DashboardCategoryResponse> categories = mergeCategories(
+                totalRepository.findCategoryTotals(userId, TransactionType.EXPENSE, start),
+                budgetRepository.findByUserIdAndMonthRefOrderByCategoryNameAsc(userId, start)
+        );
+
+        List<TransactionResponse> recent = transactionRepository
+                .findTop5ByUserIdAndDateBetweenOrderByDateDescCreatedAtDesc(userId, start, end)
+                .stream()
+                .map(TransactionMapper::toResponse)
+                .toList();
+
+        return new DashboardSummaryResponse(start, income, expense, income.subtract(expense), categories, recent);
+    }
+
+    private List<DashboardCategoryResponse> mergeCategories(List<CategoryTotalView> spending, List<Budget> budgets) {
+        Map<UUID, DashboardCategoryResponse> byCategory = new LinkedHashMap<>();
+        for (CategoryTotalView total : spending) {
+            byCategory.put(total.getCategoryId(), new DashboardCategoryResponse(
+                    total.getCategoryId(),
+                    total.getCategoryName(),
+                    total.getCategoryColor(),
+                    total.getTotal(),
+                    null
+            ));
+        }
+
+        for (Budget budget : budgets) {
+            UUID categoryId = budget.getCategory().getId();
+            DashboardCategoryResponse current = byCategory.get(categoryId);
+            byCategory.put(categoryId, new DashboardCategoryResponse(
+                    categoryId,
+                    budget.getCategory().getName(),
+                    budget.getCategory().getColor(),
+                    current == null ? BigDecimal.ZERO : current.spent(),
+                    budget.getAmount()
+            ));
+        }
+
+        return byCategory.values()
+                .stream()
+                .sorted(Comparator.comparing(DashboardCategoryResponse::spent).reversed()
+                        .thenComparing(DashboardCategoryResponse::categoryName, String.CASE_INSENSITIVE_ORDER))
+                .toList();
+    }
+}
@@ -0,0 +1,79 @@
+package com.pocketfinance.backend.service;
+
+import com.pocketfinance.backend.config.PrimaryReadPins;
+import com.pocketfinance.backend.domain.repository.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class DataVersionService {
+
+    private final UserRepository userRepository;
+    private final PrimaryReadPins primaryReadPins;
+
+    public DataVersionService(UserRepository userRepository, PrimaryReadPins primaryReadPins) {
+        this.userRepository = userRepository;
+        this.primaryReadPins = primaryReadPins;
+    }
+
+    @Transactional(readOnly = true)
+    public long current(UUID userId) {
+        return userRepository.findDataVersion(userId).orElse(0L);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump(UUID userId) {
+        userRepository.incrementDataVersion(userId);
+        primaryReadPins.pinAfterCommit(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public String etag(UUID userId, String name, List<?> parameters) {
+        return etag(userId, current(userId), name, parameters);
+    }
+
+    public static String etag(UUID userId, long version, String name, List<?> parameters) {
+        StringBuilder key = new StringBuilder().append(userId).append('\n').append(name);
+        for (String parameter : normalize(parameters)) {
+            // Length-prefixed so a value containing the separator cannot spill into the next parameter.
+            key.append('\n').append(parameter == null ? "-" : parameter.length() + ":" + parameter);
+        }
+        return "W/\"" + version + "-" + sha256(key.toString()) + "\"";
+    }
+
+    static List<String> normalize(List<?> parameters) {
+        List<String> normalized = new ArrayList<>(parameters.size());
+        for (Object parameter : parameters) {
+            normalized.add(normalize(parameter));
+        }
+        return normalized;
+    }
+
+    private static String normalize(Object parameter) {
+        if (parameter == null) {
+            return null;
+        }
+        if (parameter instanceof Enum<?> value) {
+            return value.name();
+        }
+        String value = parameter.toString().trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 nao disponivel", ex);
+        }
+    }
+}
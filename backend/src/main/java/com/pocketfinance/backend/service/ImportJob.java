@@ -0,0 +1,127 @@
+package com.pocketfinance.backend.service;
+
+import com.pocketfinance.backend.api.dto.ImportJobResponse;
+import com.pocketfinance.backend.domain.model.ImportJobRecord;
+import com.pocketfinance.backend.domain.model.ImportJobStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+class ImportJob {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final UUID id = UUID.randomUUID();
+    private final UUID userId;
+    private final String engine;
+    private final ImportProgress progress = new ImportProgress();
+    private final Instant createdAt = Instant.now();
+    private final ReentrantLock saveLock = new ReentrantLock();
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    ImportJob(UUID userId, String engine) {
+        this.userId = userId;
+        this.engine = engine;
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    UUID userId() {
+        return userId;
+    }
+
+    ImportProgress progress() {
+        return progress;
+    }
+
+    Instant finishedAt() {
+        return finishedAt;
+    }
+
+    // Held while a snapshot is taken and written, so a progress save cannot land after the final one.
+    ReentrantLock saveLock() {
+        return saveLock;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = ImportJobStatus.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = ImportJobStatus.COMPLETED;
+    }
+
+    void fail(String message) {
+        finishedAt = Instant.now();
+        error = message;
+        status = ImportJobStatus.FAILED;
+    }
+
+    ImportJobResponse toResponse() {
+        return new ImportJobResponse(
+                id,
+                status,
+                progress.parsed(),
+                progress.imported(),
+                progress.skipped(),
+                rowsPerSecond(),
+                engine,
+                error,
+                createdAt,
+                finishedAt
+        );
+    }
+
+    ImportJobRecord toRecord() {
+        ImportJobResponse snapshot = toResponse();
+        ImportJobRecord record = new ImportJobRecord();
+        record.setId(id);
+        record.setUserId(userId);
+        record.setStatus(snapshot.status());
+        record.setEngine(snapshot.engine());
+        record.setParsed(snapshot.parsed());
+        record.setImported(snapshot.imported());
+        record.setSkipped(snapshot.skipped());
+        record.setRowsPerSecond(snapshot.rowsPerSecond());
+        record.setError(snapshot.error() == null || snapshot.error().length() <= MAX_ERROR_LENGTH
+                ? snapshot.error()
+                : snapshot.error().substring(0, MAX_ERROR_LENGTH));
+        record.setCreatedAt(createdAt);
+        record.setFinishedAt(snapshot.finishedAt());
+        record.setUpdatedAt(Instant.now());
+        return record;
+    }
+
+    static ImportJobResponse toResponse(ImportJobRecord record) {
+        return new ImportJobResponse(
+                record.getId(),
+                record.getStatus(),
+                record.getParsed(),
+                record.getImported(),
+                record.getSkipped(),
+                record.getRowsPerSecond(),
+                record.getEngine(),
+                record.getError(),
+                record.getCreatedAt(),
+                record.getFinishedAt()
+        );
+    }
+
+    private long rowsPerSecond() {
+        Instant start = startedAt;
+        if (start == null) {
+            return 0;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long elapsedMillis = Math.max(Duration.between(start, end).toMillis(), 1);
+        return progress.imported() * 1000L / elapsedMillis;
+    }
+}
@@ -0,0 +1,174 @@
+package com.pocketfinance.backend.service;
+
+import com.pocketfinance.backend.api.dto.ImportJobResponse;
+import com.pocketfinance.backend.config.ImportProperties;
+import com.pocketfinance.backend.domain.repository.ImportJobRecordRepository;
+import com.pocketfinance.backend.exception.BadRequestException;
+import com.pocketfinance.backend.exception.NotFoundException;
+import com.pocketfinance.backend.exception.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+public class ImportJobService {
+    private static final Logger log = LoggerFactory.getLogger(ImportJobService.class);
+    private static final String SATURATED_MESSAGE = "Muitas importacoes em andamento. Tente novamente em instantes.";
+    private static final String ABANDONED_MESSAGE = "Importacao interrompida antes de terminar.";
+    // Running jobs are saved every few seconds, so a job untouched for this long lost its instance.
+    private static final Duration ABANDONED_AFTER = Duration.ofMinutes(5);
+
+    private final CsvService csvService;
+    private final ImportJobRecordRepository records;
+    private final ImportProperties properties;
+    // Jobs submitted to this instance. Every state change is also saved to import_job, so any
+    // instance can answer GET /import/jobs/{id}.
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    public ImportJobService(CsvService csvService, ImportJobRecordRepository records, ImportProperties properties) {
+        this.csvService = csvService;
+        this.records = records;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+                properties.maxConcurrentJobs(),
+                properties.maxConcurrentJobs(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                properties.queueCapacity() == 0
+                        ? new SynchronousQueue<>()
+                        : new ArrayBlockingQueue<>(properties.queueCapacity()),
+                Thread.ofVirtual().name("csv-import-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public ImportJobResponse submit(UUID userId, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("Arquivo CSV obrigatorio.");
+        }
+
+        if (executor.getQueue().remainingCapacity() == 0
+                && executor.getActiveCount() >= executor.getMaximumPoolSize()) {
+            throw new TooManyRequestsException(SATURATED_MESSAGE);
+        }
+
+        Path upload;
+        try {
+            upload = Files.createTempFile("csv-import-", ".csv");
+        } catch (IOException ex) {
+            throw new BadRequestException("Nao foi possivel ler o arquivo CSV.");
+        }
+        try {
+            file.transferTo(upload);
+        } catch (IOException | RuntimeException ex) {
+            deleteQuietly(upload);
+            throw new BadRequestException("Nao foi possivel ler o arquivo CSV.");
+        }
+
+        ImportJob job = new ImportJob(userId, csvService.importEngine());
+        try {
+            records.save(job.toRecord());
+        } catch (RuntimeException ex) {
+            deleteQuietly(upload);
+            throw ex;
+        }
+        jobs.put(job.id(), job);
+        try {
+            executor.execute(() -> run(job, upload));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.id());
+            records.deleteById(job.id());
+            deleteQuietly(upload);
+            throw new TooManyRequestsException(SATURATED_MESSAGE);
+        }
+        return job.toResponse();
+    }
+
+    public ImportJobResponse get(UUID userId, UUID jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job != null) {
+            if (!job.userId().equals(userId)) {
+                throw new NotFoundException("Importacao nao encontrada.");
+            }
+            return job.toResponse();
+        }
+        return records.findByIdAndUserId(jobId, userId)
+                .map(ImportJob::toResponse)
+                .orElseThrow(() -> new NotFoundException("Importacao nao encontrada."));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ImportJob job, Path upload) {
+        try (InputStream input = Files.newInputStream(upload)) {
+            job.start();
+            save(job);
+            csvService.importCsv(job.userId(), input, job.progress());
+            job.complete();
+        } catch (Exception ex) {
+            log.warn("CSV import job {} failed: {}", job.id(), ex.getMessage());
+            job.fail(ex.getMessage());
+        } finally {
+            deleteQuietly(upload);
+            save(job);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.import.progress-interval:2s}")
+    void saveProgress() {
+        for (ImportJob job : jobs.values()) {
+            if (job.finishedAt() == null) {
+                save(job);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.import.eviction-interval:5m}")
+    void evictFinishedJobs() {
+        Instant now = Instant.now();
+        Instant threshold = now.minus(properties.jobRetention());
+        jobs.values().removeIf(job -> job.finishedAt() != null && job.finishedAt().isBefore(threshold));
+        records.failAbandoned(now.minus(ABANDONED_AFTER), now, ABANDONED_MESSAGE);
+        records.deleteFinishedBefore(threshold);
+    }
+
+    private void save(ImportJob job) {
+        job.saveLock().lock();
+        try {
+            records.save(job.toRecord());
+        } catch (RuntimeException ex) {
+            log.warn("Could not save CSV import job {}: {}", job.id(), ex.getMessage());
+        } finally {
+            job.saveLock().unlock();
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("Could not delete CSV upload {}: {}", path, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.pocketfinance.backend.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ImportProgress {
+
+    private final AtomicInteger parsed = new AtomicInteger();
+    private final AtomicInteger imported = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    void rowParsed() {
+        parsed.incrementAndGet();
+    }
+
+    void rowSkipped() {
+        parsed.incrementAndGet();
+        skipped.incrementAndGet();
+    }
+
+    void rowsSkipped(int count) {
+        skipped.addAndGet(count);
+    }
+
+    void rowsImported(int count) {
+        imported.addAndGet(count);
+    }
+
+    public int parsed() {
+        return parsed.get();
+    }
+
+    public int imported() {
+        return imported.get();
+    }
+
+    public int skipped() {
+        return skipped.get();
+    }
+}
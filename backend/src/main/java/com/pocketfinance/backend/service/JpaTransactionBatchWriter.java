@@ -0,0 +1,31 @@
+package com.pocketfinance.backend.service;
+
+import com.pocketfinance.backend.domain.model.FinanceTransaction;
+import com.pocketfinance.backend.domain.repository.FinanceTransactionRepository;
+import java.util.List;
+
+public class JpaTransactionBatchWriter implements TransactionBatchWriter {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final FinanceTransactionRepository transactionRepository;
+
+    public JpaTransactionBatchWriter(FinanceTransactionRepository transactionRepository) {
+        this.transactionRepository = transactionRepository;
+    }
+
+    @Override
+    public String engine() {
+        return "jpa";
+    }
+
+    @Override
+    public int chunkSize() {
+        return CHUNK_SIZE;
+    }
+
+    @Override
+    public int write(List<FinanceTransaction> chunk) {
+        return transactionRepository.saveAll(chunk).size();
+    }
+}
@@ -0,0 +1,272 @@
+package com.pocketfinance.backend.service;
+
+import com.pocketfinance.backend.config.LoadTestProperties;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class LoadTestDataGenerator {
+    private static final Logger log = LoggerFactory.getLogger(LoadTestDataGenerator.class);
+
+    private static final List<CategoryProfile> CATALOG = List.of(
+            new CategoryProfile("Alimentacao", "#E71D36", TransactionType.EXPENSE, 45, 0.8, 30,
+                    List.of("Mercado Extra", "Padaria Pao Quente", "Restaurante Sabor", "iFood pedido", "Hortifruti", "Acougue Central")),
+            new CategoryProfile("Transporte", "#FF9F1C", TransactionType.EXPENSE, 25, 0.7, 20,
+                    List.of("Uber viagem", "99 corrida", "Posto Shell combustivel", "Estacionamento", "Bilhete unico", "Pedagio")),
+            new CategoryProfile("Moradia", "#1B998B", TransactionType.EXPENSE, 320, 1.1, 5,
+                    List.of("Aluguel", "Condominio", "Conta de energia", "Conta de agua", "Internet fibra", "Gas encanado")),
+            new CategoryProfile("Saude", "#5BC0EB", TransactionType.EXPENSE, 80, 0.9, 5,
+                    List.of("Farmacia Droga Raia", "Consulta medica", "Plano de saude", "Exame laboratorio", "Dentista")),
+            new CategoryProfile("Lazer", "#9B5DE5", TransactionType.EXPENSE, 60, 0.9, 8,
+                    List.of("Cinema", "Show ingresso", "Bar com amigos", "Parque", "Livraria", "Jogo online")),
+            new CategoryProfile("Compras", "#F15BB5", TransactionType.EXPENSE, 120, 1.0, 7,
+                    List.of("Loja de roupas", "Mercado Livre compra", "Amazon pedido", "Magazine eletronicos", "Calcados")),
+            new CategoryProfile("Assinaturas", "#00BBF9", TransactionType.EXPENSE, 35, 0.5, 4,
+                    List.of("Netflix", "Spotify", "Academia mensalidade", "Nuvem armazenamento", "Jornal digital")),
+            new CategoryProfile("Educacao", "#00F5D4", TransactionType.EXPENSE, 200, 0.8, 2,
+                    List.of("Curso online", "Mensalidade escolar", "Material escolar", "Idiomas")),
+            new CategoryProfile("Pets", "#FEE440", TransactionType.EXPENSE, 70, 0.8, 3,
+                    List.of("Pet shop racao", "Veterinario", "Banho e tosa")),
+            new CategoryProfile("Viagem", "#3A86FF", TransactionType.EXPENSE, 450, 1.0, 1,
+                    List.of("Passagem aerea", "Hotel reserva", "Aluguel de carro", "Passeio turistico")),
+            new CategoryProfile("Salario", "#2E86AB", TransactionType.INCOME, 5200, 0.3, 3,
+                    List.of("Salario mensal", "Adiantamento salarial", "Decimo terceiro")),
+            new CategoryProfile("Freelance", "#8AC926", TransactionType.INCOME, 900, 0.7, 2,
+                    List.of("Projeto freelance", "Consultoria", "Venda online"))
+    );
+
+    private static final String COPY_USERS = """
+            COPY app_user (id, email, password_hash, full_name, created_at, updated_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String COPY_CATEGORIES = """
+            COPY category (id, user_id, name, color, created_at, updated_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String COPY_TRANSACTIONS = """
+            COPY finance_transaction (id, user_id, category_id, type, description, amount, date, created_at, updated_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String COPY_BUDGETS = """
+            COPY budget (id, user_id, category_id, month_ref, amount, created_at, updated_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private final LoadTestProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MonthlyRollupService rollupService;
+    private final PasswordEncoder passwordEncoder;
+
+    public LoadTestDataGenerator(LoadTestProperties properties,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 MonthlyRollupService rollupService,
+                                 PasswordEncoder passwordEncoder) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rollupService = rollupService;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    public void generate() throws InterruptedException {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return metaData.getDatabaseProductName();
+        });
+        if (!"PostgreSQL".equals(product)) {
+            throw new IllegalStateException("O profile loadtest exige PostgreSQL.");
+        }
+
+        LocalDate firstDay = properties.endMonth().minusMonths(properties.months() - 1L).atDay(1);
+        LocalDate lastDay = properties.endMonth().atEndOfMonth();
+        jdbcTemplate.queryForObject("SELECT ensure_finance_transaction_partitions(?, ?)", Integer.class,
+                firstDay, lastDay);
+
+        String passwordHash = passwordEncoder.encode(properties.password());
+        long startedAt = System.nanoTime();
+        AtomicLong users = new AtomicLong();
+        AtomicLong transactions = new AtomicLong();
+        log.info("Generating load test data: {} users x {} categories x {} transactions over {} months up to {} (seed {})",
+                properties.users(), properties.categoriesPerUser(), properties.transactionsPerUser(),
+                properties.months(), properties.endMonth(), properties.seed());
+
+        List<Future<?>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(properties.parallelism(),
+                Thread.ofPlatform().name("loadtest-", 0).factory())) {
+            for (int worker = 0; worker < properties.parallelism(); worker++) {
+                int first = worker;
+                workers.add(executor.submit(() -> {
+                    for (int index = first; index < properties.users(); index += properties.parallelism()) {
+                        if (generateUser(index, passwordHash)) {
+                            users.incrementAndGet();
+                            transactions.addAndGet(properties.transactionsPerUser());
+                            logProgress(users.get(), transactions.get(), startedAt);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Falha ao gerar dados de carga.", ex.getCause());
+        }
+
+        jdbcTemplate.execute("ANALYZE");
+        logProgress(users.get(), transactions.get(), startedAt);
+    }
+
+    private boolean generateUser(int index, String passwordHash) {
+        String email = "user" + index + "@" + properties.emailDomain();
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM app_user WHERE email = ?",
+                Integer.class, email);
+        if (existing != null && existing > 0) {
+            return false;
+        }
+
+        SplittableRandom random = new SplittableRandom(properties.seed() * 0x9E3779B97F4A7C15L + index);
+        UUID userId = uuid(random);
+        LocalDate firstDay = properties.endMonth().minusMonths(properties.months() - 1L).atDay(1);
+        LocalDate lastDay = properties.endMonth().atEndOfMonth();
+        LocalDateTime createdAt = firstDay.atStartOfDay();
+
+        List<UserCategory> categories = new ArrayList<>(properties.categoriesPerUser());
+        for (int i = 0; i < properties.categoriesPerUser(); i++) {
+            CategoryProfile profile = CATALOG.get(i % CATALOG.size());
+            String name = i < CATALOG.size() ? profile.name() : profile.name() + " " + (i / CATALOG.size() + 1);
+            categories.add(new UserCategory(uuid(random), name, profile));
+        }
+        double totalWeight = categories.stream().mapToDouble(category -> category.profile().weight()).sum();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            copy(COPY_USERS, printer -> printer.printRecord(userId, email, passwordHash,
+                    "Usuario Carga " + index, createdAt, createdAt));
+            copy(COPY_CATEGORIES, printer -> {
+                for (UserCategory category : categories) {
+                    printer.printRecord(category.id(), userId, category.name(), category.profile().color(), createdAt, createdAt);
+                }
+            });
+            copy(COPY_TRANSACTIONS, printer -> {
+                long days = lastDay.toEpochDay() - firstDay.toEpochDay() + 1;
+                for (int i = 0; i < properties.transactionsPerUser(); i++) {
+                    UserCategory category = pick(categories, totalWeight, random);
+                    CategoryProfile profile = category.profile();
+                    LocalDate date = firstDay.plusDays(random.nextLong(days));
+                    LocalDateTime timestamp = date.atTime(LocalTime.ofSecondOfDay(random.nextInt(86_400)));
+                    String merchant = profile.merchants().get(random.nextInt(profile.merchants().size()));
+                    printer.printRecord(uuid(random), userId, category.id(), profile.type().name(),
+                            random.nextInt(4) == 0 ? merchant + " " + (1 + random.nextInt(999)) : merchant,
+                            amount(profile, random).toPlainString(), date, timestamp, timestamp);
+                }
+            });
+            copy(COPY_BUDGETS, printer -> {
+                double monthlyTransactions = (double) properties.transactionsPerUser() / properties.months();
+                for (YearMonth month = YearMonth.from(firstDay); !month.isAfter(properties.endMonth()); month = month.plusMonths(1)) {
+                    for (UserCategory category : categories) {
+                        if (category.profile().type() != TransactionType.EXPENSE
+                                || random.nextDouble() >= properties.budgetCoverage()) {
+                            continue;
+                        }
+                        double expected = monthlyTransactions * category.profile().weight() / totalWeight
+                                * category.profile().median() * (0.8 + random.nextDouble() * 0.5);
+                        BigDecimal budget = BigDecimal.valueOf(Math.max(expected, 10)).setScale(2, RoundingMode.HALF_UP);
+                        printer.printRecord(uuid(random), userId, category.id(), month.atDay(1),
+                                budget.toPlainString(), createdAt, createdAt);
+                    }
+                }
+            });
+            rollupService.rebuild(userId);
+        });
+        return true;
+    }
+
+    private void copy(String sql, CopyRows rows) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(pgConnection, sql), StandardCharsets.UTF_8), 1 << 16);
+                 CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT)) {
+                rows.write(printer);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return null;
+        });
+    }
+
+    private void logProgress(long users, long transactions, long startedAt) {
+        long elapsedMillis = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+        log.info("Load test data: {}/{} users, {} transactions in {} s ({} rows/s)", users, properties.users(),
+                transactions, elapsedMillis / 1000, transactions * 1000 / elapsedMillis);
+    }
+
+    private static UserCategory pick(List<UserCategory> categories, double totalWeight, SplittableRandom random) {
+        double roll = random.nextDouble() * totalWeight;
+        for (UserCategory category : categories) {
+            roll -= category.profile().weight();
+            if (roll < 0) {
+                return category;
+            }
+        }
+        return categories.getLast();
+    }
+
+    private static BigDecimal amount(CategoryProfile profile, SplittableRandom random) {
+        double value = profile.median() * Math.exp(profile.sigma() * random.nextGaussian());
+        return BigDecimal.valueOf(Math.max(value, 0.5)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static UUID uuid(SplittableRandom random) {
+        long mostSignificant = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        long leastSignificant = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    @FunctionalInterface
+    private interface CopyRows {
+        void write(CSVPrinter printer) throws IOException;
+    }
+
+    private record CategoryProfile(String name, String color, TransactionType type, double median, double sigma,
+                                   double weight, List<String> merchants) {
+    }
+
+    private record UserCategory(UUID id, String name, CategoryProfile profile) {
+    }
+}
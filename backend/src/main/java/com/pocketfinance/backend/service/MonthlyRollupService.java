@@ -0,0 +1,66 @@
+package com.pocketfinance.backend.service;
+
+import com.pocketfinance.backend.domain.model.FinanceTransaction;
+import com.pocketfinance.backend.domain.repository.MonthlyCategoryDelta;
+import com.pocketfinance.backend.domain.repository.MonthlyCategoryTotalRepository;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class MonthlyRollupService {
+
+    private final MonthlyCategoryTotalRepository totalRepository;
+
+    public MonthlyRollupService(MonthlyCategoryTotalRepository totalRepository) {
+        this.totalRepository = totalRepository;
+    }
+
+    public MonthlyCategoryDelta added(FinanceTransaction transaction) {
+        return delta(transaction, transaction.getAmount(), 1);
+    }
+
+    public MonthlyCategoryDelta removed(FinanceTransaction transaction) {
+        return delta(transaction, transaction.getAmount().negate(), -1);
+    }
+
+    public void apply(MonthlyCategoryDelta... deltas) {
+        apply(List.of(deltas));
+    }
+
+    public void recordAll(Collection<FinanceTransaction> transactions) {
+        apply(transactions.stream().map(this::added).toList());
+    }
+
+    public int rebuild(UUID userId) {
+        return totalRepository.rebuild(userId);
+    }
+
+    public void apply(List<MonthlyCategoryDelta> deltas) {
+        Map<List<Object>, MonthlyCategoryDelta> merged = new LinkedHashMap<>();
+        for (MonthlyCategoryDelta delta : deltas) {
+            merged.merge(List.of(delta.userId(), delta.monthRef(), delta.categoryId(), delta.type()), delta,
+                    (left, right) -> new MonthlyCategoryDelta(left.userId(), left.monthRef(), left.categoryId(),
+                            left.type(), left.amount().add(right.amount()), left.count() + right.count()));
+        }
+        merged.values().removeIf(delta -> delta.count() == 0 && delta.amount().signum() == 0);
+        totalRepository.applyDeltas(merged.values());
+    }
+
+    private MonthlyCategoryDelta delta(FinanceTransaction transaction, BigDecimal amount, long count) {
+        return new MonthlyCategoryDelta(
+                transaction.getUser().getId(),
+                transaction.getDate().withDayOfMonth(1),
+                transaction.getCategory().getId(),
+                transaction.getType(),
+                amount,
+                count
+        );
+    }
+}
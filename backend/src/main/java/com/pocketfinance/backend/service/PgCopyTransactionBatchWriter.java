@@ -0,0 +1,95 @@
+package com.pocketfinance.backend.service;
+
+import com.pocketfinance.backend.domain.model.FinanceTransaction;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class PgCopyTransactionBatchWriter implements TransactionBatchWriter {
+
+    private static final int CHUNK_SIZE = 5000;
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE IF NOT EXISTS finance_transaction_staging (
+                user_id UUID NOT NULL,
+                category_id UUID NOT NULL,
+                type VARCHAR(20) NOT NULL,
+                description VARCHAR(255) NOT NULL,
+                amount NUMERIC(14,2) NOT NULL,
+                date DATE NOT NULL,
+                created_at TIMESTAMP NOT NULL,
+                updated_at TIMESTAMP NOT NULL
+            ) ON COMMIT DELETE ROWS
+            """;
+
+    private static final String COPY_STAGING = """
+            COPY finance_transaction_staging (user_id, category_id, type, description, amount, date, created_at, updated_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String MERGE_STAGING = """
+            INSERT INTO finance_transaction (user_id, category_id, type, description, amount, date, created_at, updated_at)
+            SELECT s.user_id, s.category_id, s.type, s.description, s.amount, s.date, s.created_at, s.updated_at
+            FROM finance_transaction_staging s
+            JOIN category c ON c.id = s.category_id AND c.user_id = s.user_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PgCopyTransactionBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public String engine() {
+        return "copy";
+    }
+
+    @Override
+    public int chunkSize() {
+        return CHUNK_SIZE;
+    }
+
+    @Override
+    public int write(List<FinanceTransaction> chunk) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.execute(CREATE_STAGING);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(pgConnection, COPY_STAGING), StandardCharsets.UTF_8));
+                 CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT)) {
+                for (FinanceTransaction transaction : chunk) {
+                    printer.printRecord(
+                            transaction.getUser().getId(),
+                            transaction.getCategory().getId(),
+                            transaction.getType().name(),
+                            transaction.getDescription(),
+                            transaction.getAmount().toPlainString(),
+                            transaction.getDate(),
+                            now,
+                            now
+                    );
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return null;
+        });
+        int merged = jdbcTemplate.update(MERGE_STAGING);
+        jdbcTemplate.execute("TRUNCATE finance_transaction_staging");
+        return merged;
+    }
+}
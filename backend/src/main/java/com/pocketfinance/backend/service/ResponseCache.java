@@ -0,0 +1,167 @@
+package com.pocketfinance.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pocketfinance.backend.api.dto.CachedJson;
+import com.pocketfinance.backend.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ResponseCache {
+
+    private final Cache<Key, byte[]> cache;
+    private final DataVersionService dataVersionService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate snapshotTransactionTemplate;
+    private final int maximumEntryBytes;
+
+    public ResponseCache(ResponseCacheProperties properties,
+                         DataVersionService dataVersionService,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maximumSize().toBytes())
+                .weigher((Key key, byte[] body) -> body.length)
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        this.dataVersionService = dataVersionService;
+        this.objectMapper = objectMapper;
+        // Version and body are read from one snapshot on one connection, so a body is never cached or
+        // tagged under a version it does not reflect.
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate.setReadOnly(true);
+        this.snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.maximumEntryBytes = (int) Math.min(properties.maximumEntrySize().toBytes(), Integer.MAX_VALUE);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "responses");
+        Gauge.builder("cache.weight", cache, ResponseCache::weightedSize)
+                .description("Bytes held by cached response bodies")
+                .tag("cache", "responses")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public <T> CachedJson<T> json(UUID userId, String name, List<?> parameters, Supplier<T> loader) {
+        return snapshotTransactionTemplate.execute(status -> {
+            Key key = key(userId, name, parameters);
+            byte[] body = cache.getIfPresent(key);
+            if (body == null) {
+                body = serialize(loader.get());
+                if (body.length <= maximumEntryBytes) {
+                    cache.put(key, body);
+                }
+            }
+            return new CachedJson<>(body, DataVersionService.etag(userId, key.version(), name, parameters));
+        });
+    }
+
+    public void stream(UUID userId, String name, List<?> parameters, OutputStream outputStream,
+                       Consumer<OutputStream> writer) {
+        snapshotTransactionTemplate.executeWithoutResult(status ->
+                streamInSnapshot(userId, name, parameters, outputStream, writer));
+    }
+
+    private void streamInSnapshot(UUID userId, String name, List<?> parameters, OutputStream outputStream,
+                                  Consumer<OutputStream> writer) {
+        Key key = key(userId, name, parameters);
+        byte[] body = cache.getIfPresent(key);
+        try {
+            if (body != null) {
+                outputStream.write(body);
+                outputStream.flush();
+                return;
+            }
+            CapturingOutputStream capturing = new CapturingOutputStream(outputStream, maximumEntryBytes);
+            writer.accept(capturing);
+            capturing.flush();
+            byte[] captured = capturing.captured();
+            if (captured != null) {
+                cache.put(key, captured);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao escrever resposta.", ex);
+        }
+    }
+
+    private Key key(UUID userId, String name, List<?> parameters) {
+        return new Key(userId, dataVersionService.current(userId), name, DataVersionService.normalize(parameters));
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException("Falha ao serializar resposta.", ex);
+        }
+    }
+
+    private static double weightedSize(Cache<Key, byte[]> cache) {
+        return cache.policy().eviction()
+                .map(eviction -> (double) eviction.weightedSize().orElse(0))
+                .orElse(0.0);
+    }
+
+    private record Key(UUID userId, long version, String name, List<String> parameters) {
+    }
+
+    private static final class CapturingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        private final int limit;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        private CapturingOutputStream(OutputStream delegate, int limit) {
+            this.delegate = delegate;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (reserve(1)) {
+                buffer.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            if (reserve(len)) {
+                buffer.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        private boolean reserve(int len) {
+            if (buffer != null && buffer.size() + len > limit) {
+                buffer = null;
+            }
+            return buffer != null;
+        }
+
+        private byte[] captured() {
+            return buffer == null ? null : buffer.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.pocketfinance.backend.service;
+
+import com.pocketfinance.backend.domain.model.FinanceTransaction;
+import java.util.List;
+
+public interface TransactionBatchWriter {
+
+    String engine();
+
+    int chunkSize();
+
+    int write(List<FinanceTransaction> chunk);
+}
@@ -0,0 +1,36 @@
+package com.pocketfinance.backend.service;
+
+import com.pocketfinance.backend.api.dto.TransactionResponse;
+import com.pocketfinance.backend.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+record TransactionCursor(LocalDate date, Instant createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    static TransactionCursor of(TransactionResponse transaction) {
+        return new TransactionCursor(transaction.date(), transaction.createdAt(), transaction.id());
+    }
+
+    static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("unexpected cursor layout");
+            }
+            return new TransactionCursor(LocalDate.parse(parts[0]), Instant.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Cursor invalido.");
+        }
+    }
+
+    String encode() {
+        String raw = date + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
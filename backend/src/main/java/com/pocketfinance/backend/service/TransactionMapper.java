@@ -0,0 +1,38 @@
+package com.pocketfinance.backend.service;
+
+import com.pocketfinance.backend.api.dto.CategoryResponse;
+import com.pocketfinance.backend.api.dto.TransactionResponse;
+import com.pocketfinance.backend.domain.model.FinanceTransaction;
+import java.util.Map;
+import java.util.UUID;
+
+final class TransactionMapper {
+
+    private TransactionMapper() {
+    }
+
+    static TransactionResponse toResponse(FinanceTransaction transaction) {
+        return toResponse(transaction, transaction.getCategory().getName());
+    }
+
+    // Categories set through CategoryService.reference are uninitialized proxies; their names come from the
+    // cached snapshot instead of a lazy load.
+    static TransactionResponse toResponse(FinanceTransaction transaction, Map<UUID, CategoryResponse> categories) {
+        CategoryResponse category = categories.get(transaction.getCategory().getId());
+        return category == null ? toResponse(transaction) : toResponse(transaction, category.name());
+    }
+
+    static TransactionResponse toResponse(FinanceTransaction transaction, String categoryName) {
+        return new TransactionResponse(
+                transaction.getId(),
+                transaction.getCategory().getId(),
+                categoryName,
+                transaction.getType(),
+                transaction.getDescription(),
+                transaction.getAmount(),
+                transaction.getDate(),
+                transaction.getCreatedAt(),
+                transaction.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package com.pocketfinance.backend.service;
+
+import com.pocketfinance.backend.config.PartitionProperties;
+import java.sql.DatabaseMetaData;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransactionPartitionMaintainer {
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionMaintainer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionProperties properties;
+    private final boolean postgres;
+
+    public TransactionPartitionMaintainer(JdbcTemplate jdbcTemplate, PartitionProperties properties, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.postgres = isPostgres(dataSource);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.partitions.cron:0 30 3 * * *}")
+    public void ensurePartitions() {
+        if (!properties.enabled() || !postgres) {
+            return;
+        }
+        Integer created = jdbcTemplate.queryForObject("SELECT maintain_finance_transaction_partitions(?)",
+                Integer.class, properties.yearsAhead());
+        if (created != null && created > 0) {
+            log.info("Created {} finance_transaction partitions", created);
+        }
+    }
+
+    private boolean isPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (MetaDataAccessException ex) {
+            return false;
+        }
+    }
+}
@@ -1,27 +1,52 @@
 package com.pocketfinance.backend.service;
 
+import com.pocketfinance.backend.api.dto.CategoryResponse;
+import com.pocketfinance.backend.api.dto.CursorPageResponse;
 import com.pocketfinance.backend.api.dto.PageResponse;
+import com.pocketfinance.backend.api.dto.TransactionBatchItemResponse;
+import com.pocketfinance.backend.api.dto.TransactionBatchOperation;
+import com.pocketfinance.backend.api.dto.TransactionBatchRequest;
+import com.pocketfinance.backend.api.dto.TransactionBatchResponse;
 import com.pocketfinance.backend.api.dto.TransactionCreateRequest;
 import com.pocketfinance.backend.api.dto.TransactionResponse;
 import com.pocketfinance.backend.api.dto.TransactionUpdateRequest;
-import com.pocketfinance.backend.domain.model.Category;
+import com.pocketfinance.backend.config.SearchFunctionContributor;
 import com.pocketfinance.backend.domain.model.FinanceTransaction;
+import com.pocketfinance.backend.domain.model.TransactionBatchAction;
+import com.pocketfinance.backend.domain.model.TransactionSearchMode;
 import com.pocketfinance.backend.domain.model.TransactionType;
 import com.pocketfinance.backend.domain.model.User;
 import com.pocketfinance.backend.domain.repository.FinanceTransactionRepository;
+import com.pocketfinance.backend.domain.repository.MonthlyCategoryDelta;
 import com.pocketfinance.backend.domain.repository.UserRepository;
+import com.pocketfinance.backend.exception.BadRequestException;
 import com.pocketfinance.backend.exception.NotFoundException;
 import com.pocketfinance.backend.exception.UnauthorizedException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,70 +55,121 @@ import org.springframework.transaction.annotation.Transactional;
 public class TransactionService {
 
     private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final char LIKE_ESCAPE = '\\';
+    private static final Sort LIST_SORT = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("createdAt"));
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
 
     private final FinanceTransactionRepository transactionRepository;
     private final UserRepository userRepository;
     private final CategoryService categoryService;
     private final MonthParser monthParser;
+    private final MonthlyRollupService rollupService;
+    private final DataVersionService dataVersionService;
 
     public TransactionService(FinanceTransactionRepository transactionRepository,
                               UserRepository userRepository,
                               CategoryService categoryService,
-                              MonthParser monthParser) {
+                              MonthParser monthParser,
+                              MonthlyRollupService rollupService,
+                              DataVersionService dataVersionService) {
         this.transactionRepository = transactionRepository;
         this.userRepository = userRepository;
         this.categoryService = categoryService;
         this.monthParser = monthParser;
+        this.rollupService = rollupService;
+        this.dataVersionService = dataVersionService;
     }
 
+    @Timed(value = "transactions.list", extraTags = {"pagination", "offset"})
     @Transactional(readOnly = true)
     public PageResponse<TransactionResponse> list(UUID userId,
                                                   String month,
                                                   UUID categoryId,
                                                   TransactionType type,
                                                   String q,
+                                                  TransactionSearchMode search,
                                                   Integer page) {
-        Pageable pageable = PageRequest.of(Math.max(page == null ? 0 : page, 0), DEFAULT_PAGE_SIZE,
-                Sort.by(Sort.Order.desc("date"), Sort.Order.desc("createdAt")));
+        Pageable pageable = PageRequest.of(Math.max(page == null ? 0 : page, 0), DEFAULT_PAGE_SIZE, LIST_SORT);
 
-        Specification<FinanceTransaction> specification = buildSpecification(userId, month, categoryId, type, q);
-        Page<FinanceTransaction> result = transactionRepository.findAll(specification, pageable);
+        Specification<FinanceTransaction> specification = buildSpecification(userId, month, categoryId, type, q, search);
+        List<TransactionResponse> content = transactionRepository.findResponses(specification, LIST_SORT,
+                pageable.getOffset(), pageable.getPageSize());
+        Page<TransactionResponse> result = PageableExecutionUtils.getPage(content, pageable,
+                () -> transactionRepository.count(specification));
 
-        List<TransactionResponse> items = result.getContent().stream().map(this::toResponse).toList();
-        return new PageResponse<>(items, result.getNumber(), result.getSize(), result.getTotalElements(),
+        return new PageResponse<>(result.getContent(), result.getNumber(), result.getSize(), result.getTotalElements(),
                 result.getTotalPages(), result.isLast());
     }
 
+    @Timed(value = "transactions.list", extraTags = {"pagination", "cursor"})
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TransactionResponse> listAfter(UUID userId,
+                                                             String month,
+                                                             UUID categoryId,
+                                                             TransactionType type,
+                                                             String q,
+                                                             TransactionSearchMode search,
+                                                             String after) {
+        if (search == TransactionSearchMode.RANKED && q != null && !q.isBlank()) {
+            // Relevance order cannot be resumed from a (date, createdAt, id) cursor.
+            throw new BadRequestException("search=RANKED nao e suportado na paginacao por cursor.");
+        }
+        Specification<FinanceTransaction> specification = buildSpecification(userId, month, categoryId, type, q, search);
+        if (after != null && !after.isBlank()) {
+            specification = specification.and(keysetAfter(TransactionCursor.decode(after)));
+        }
+
+        List<TransactionResponse> rows = transactionRepository.findResponses(specification, KEYSET_SORT, 0,
+                DEFAULT_PAGE_SIZE + 1);
+
+        boolean last = rows.size() <= DEFAULT_PAGE_SIZE;
+        List<TransactionResponse> items = last ? rows : rows.subList(0, DEFAULT_PAGE_SIZE);
+        String nextCursor = last ? null : TransactionCursor.of(items.getLast()).encode();
+
+        return new CursorPageResponse<>(items, DEFAULT_PAGE_SIZE, nextCursor, last);
+    }
+
+    @Timed("transactions.create")
     public TransactionResponse create(UUID userId, TransactionCreateRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UnauthorizedException("Usuario nao encontrado."));
-        Category category = categoryService.getByIdAndUser(request.categoryId(), userId);
+        CategoryResponse category = categoryService.getOwned(userId, request.categoryId());
 
         FinanceTransaction transaction = new FinanceTransaction();
         transaction.setUser(user);
-        transaction.setCategory(category);
+        transaction.setCategory(categoryService.reference(category.id()));
         transaction.setType(request.type());
         transaction.setDescription(request.description().trim());
         transaction.setAmount(request.amount());
         transaction.setDate(request.date());
 
-        return toResponse(transactionRepository.save(transaction));
+        FinanceTransaction saved;
+        try {
+            saved = transactionRepository.saveAndFlush(transaction);
+        } catch (DataIntegrityViolationException ex) {
+            throw categoryService.rejectMissingCategory(userId, ex);
+        }
+        rollupService.apply(rollupService.added(saved));
+        dataVersionService.bump(userId);
+        return TransactionMapper.toResponse(saved, category.name());
     }
 
     @Transactional(readOnly = true)
-    public TransactionResponse getById(UUID userId, UUID id) {
-        FinanceTransaction transaction = transactionRepository.findByIdAndUserId(id, userId)
-                .orElseThrow(() -> new NotFoundException("Transacao nao encontrada."));
-        return toResponse(transaction);
+    public TransactionResponse getById(UUID userId, UUID id, LocalDate date) {
+        FinanceTransaction transaction = findOwned(userId, id, date);
+        return TransactionMapper.toResponse(transaction);
     }
 
-    public TransactionResponse update(UUID userId, UUID id, TransactionUpdateRequest request) {
-        FinanceTransaction transaction = transactionRepository.findByIdAndUserId(id, userId)
-                .orElseThrow(() -> new NotFoundException("Transacao nao encontrada."));
+    @Timed("transactions.update")
+    public TransactionResponse update(UUID userId, UUID id, LocalDate date, TransactionUpdateRequest request) {
+        FinanceTransaction transaction = findOwned(userId, id, date);
+        MonthlyCategoryDelta previous = rollupService.removed(transaction);
 
+        CategoryResponse category = null;
         if (request.categoryId() != null) {
-            Category category = categoryService.getByIdAndUser(request.categoryId(), userId);
-            transaction.setCategory(category);
+            category = categoryService.getOwned(userId, request.categoryId());
+            transaction.setCategory(categoryService.reference(category.id()));
         }
         if (request.type() != null) {
             transaction.setType(request.type());
@@ -108,26 +184,178 @@ public class TransactionService {
             transaction.setDate(request.date());
         }
 
-        return toResponse(transactionRepository.save(transaction));
+        FinanceTransaction saved;
+        try {
+            saved = transactionRepository.saveAndFlush(transaction);
+        } catch (DataIntegrityViolationException ex) {
+            throw categoryService.rejectMissingCategory(userId, ex);
+        }
+        rollupService.apply(previous, rollupService.added(saved));
+        dataVersionService.bump(userId);
+        return category == null
+                ? TransactionMapper.toResponse(saved)
+                : TransactionMapper.toResponse(saved, category.name());
     }
 
-    public void delete(UUID userId, UUID id) {
-        FinanceTransaction transaction = transactionRepository.findByIdAndUserId(id, userId)
-                .orElseThrow(() -> new NotFoundException("Transacao nao encontrada."));
+    @Timed("transactions.delete")
+    public void delete(UUID userId, UUID id, LocalDate date) {
+        FinanceTransaction transaction = findOwned(userId, id, date);
         transactionRepository.delete(transaction);
+        rollupService.apply(rollupService.removed(transaction));
+        dataVersionService.bump(userId);
+    }
+
+    @Timed("transactions.batch")
+    public TransactionBatchResponse batch(UUID userId, TransactionBatchRequest request) {
+        List<TransactionBatchOperation> operations = request.operations();
+        Set<UUID> categoryIds = new HashSet<>();
+        Set<UUID> transactionIds = new HashSet<>();
+        for (TransactionBatchOperation operation : operations) {
+            if (operation.categoryId() != null) {
+                categoryIds.add(operation.categoryId());
+            }
+            if (operation.action() != TransactionBatchAction.CREATE && operation.id() != null) {
+                transactionIds.add(operation.id());
+            }
+        }
+
+        Map<UUID, CategoryResponse> categories = categoryIds.isEmpty()
+                ? Map.of()
+                : categoryService.mapOwned(userId, categoryIds);
+        Map<UUID, FinanceTransaction> existing = new HashMap<>();
+        if (!transactionIds.isEmpty()) {
+            for (FinanceTransaction transaction : transactionRepository.findByUserIdAndIdIn(userId, transactionIds)) {
+                existing.put(transaction.getId(), transaction);
+            }
+        }
+
+        TransactionBatchItemResponse[] results = new TransactionBatchItemResponse[operations.size()];
+        List<BatchItem> applied = new ArrayList<>();
+        List<FinanceTransaction> created = new ArrayList<>();
+        List<FinanceTransaction> deleted = new ArrayList<>();
+        List<MonthlyCategoryDelta> deltas = new ArrayList<>();
+        Set<UUID> touched = new HashSet<>();
+        User user = null;
+
+        for (int index = 0; index < operations.size(); index++) {
+            TransactionBatchOperation operation = operations.get(index);
+            if (operation.categoryId() != null && !categories.containsKey(operation.categoryId())) {
+                results[index] = failed(index, operation, HttpStatus.BAD_REQUEST, "Categoria nao pertence ao usuario.");
+                continue;
+            }
+
+            if (operation.action() == TransactionBatchAction.CREATE) {
+                if (operation.categoryId() == null || operation.type() == null || operation.description() == null
+                        || operation.description().isBlank() || operation.amount() == null || operation.date() == null) {
+                    results[index] = failed(index, operation, HttpStatus.BAD_REQUEST,
+                            "categoryId, type, description, amount e date sao obrigatorios.");
+                    continue;
+                }
+                if (user == null) {
+                    user = userRepository.findById(userId)
+                            .orElseThrow(() -> new UnauthorizedException("Usuario nao encontrado."));
+                }
+                FinanceTransaction transaction = new FinanceTransaction();
+                transaction.setUser(user);
+                transaction.setCategory(categoryService.reference(operation.categoryId()));
+                transaction.setType(operation.type());
+                transaction.setDescription(operation.description().trim());
+                transaction.setAmount(operation.amount());
+                transaction.setDate(operation.date());
+                created.add(transaction);
+                applied.add(new BatchItem(index, operation.action(), transaction));
+                continue;
+            }
+
+            if (operation.id() == null) {
+                results[index] = failed(index, operation, HttpStatus.BAD_REQUEST, "id obrigatorio.");
+                continue;
+            }
+            if (operation.action() == TransactionBatchAction.UPDATE && operation.description() != null
+                    && operation.description().isBlank()) {
+                results[index] = failed(index, operation, HttpStatus.BAD_REQUEST, "description nao pode ficar em branco.");
+                continue;
+            }
+            FinanceTransaction transaction = existing.get(operation.id());
+            if (transaction == null) {
+                results[index] = failed(index, operation, HttpStatus.NOT_FOUND, "Transacao nao encontrada.");
+                continue;
+            }
+            if (!touched.add(transaction.getId())) {
+                results[index] = failed(index, operation, HttpStatus.BAD_REQUEST, "Transacao repetida no lote.");
+                continue;
+            }
+
+            deltas.add(rollupService.removed(transaction));
+            if (operation.action() == TransactionBatchAction.DELETE) {
+                deleted.add(transaction);
+            } else {
+                if (operation.categoryId() != null) {
+                    transaction.setCategory(categoryService.reference(operation.categoryId()));
+                }
+                if (operation.type() != null) {
+                    transaction.setType(operation.type());
+                }
+                if (operation.description() != null) {
+                    transaction.setDescription(operation.description().trim());
+                }
+                if (operation.amount() != null) {
+                    transaction.setAmount(operation.amount());
+                }
+                if (operation.date() != null) {
+                    transaction.setDate(operation.date());
+                }
+                deltas.add(rollupService.added(transaction));
+            }
+            applied.add(new BatchItem(index, operation.action(), transaction));
+        }
+
+        if (!applied.isEmpty()) {
+            try {
+                transactionRepository.saveAll(created);
+                transactionRepository.deleteAll(deleted);
+                transactionRepository.flush();
+            } catch (DataIntegrityViolationException ex) {
+                throw categoryService.rejectMissingCategory(userId, ex);
+            }
+            created.forEach(transaction -> deltas.add(rollupService.added(transaction)));
+            rollupService.apply(deltas);
+            dataVersionService.bump(userId);
+        }
+
+        for (BatchItem item : applied) {
+            results[item.index()] = switch (item.action()) {
+                case CREATE -> new TransactionBatchItemResponse(item.index(), item.action(), HttpStatus.CREATED.value(),
+                        item.transaction().getId(), TransactionMapper.toResponse(item.transaction(), categories), null);
+                case UPDATE -> new TransactionBatchItemResponse(item.index(), item.action(), HttpStatus.OK.value(),
+                        item.transaction().getId(), TransactionMapper.toResponse(item.transaction(), categories), null);
+                case DELETE -> new TransactionBatchItemResponse(item.index(), item.action(), HttpStatus.NO_CONTENT.value(),
+                        item.transaction().getId(), null, null);
+            };
+        }
+        return new TransactionBatchResponse(applied.size(), operations.size() - applied.size(), List.of(results));
     }
 
     @Transactional(readOnly = true)
-    public List<FinanceTransaction> findForExport(UUID userId, String month, UUID categoryId) {
-        Specification<FinanceTransaction> specification = buildSpecification(userId, month, categoryId, null, null);
-        return transactionRepository.findAll(specification, Sort.by(Sort.Order.desc("date"), Sort.Order.desc("createdAt")));
+    public Stream<TransactionResponse> streamForExport(UUID userId, String month, UUID categoryId) {
+        Specification<FinanceTransaction> specification = buildSpecification(userId, month, categoryId, null, null, null);
+        return transactionRepository.streamResponses(specification, LIST_SORT, EXPORT_FETCH_SIZE);
+    }
+
+    // The primary key is (id, date), so without the date a lookup probes every yearly partition.
+    private FinanceTransaction findOwned(UUID userId, UUID id, LocalDate date) {
+        Optional<FinanceTransaction> transaction = date == null
+                ? transactionRepository.findByIdAndUserId(id, userId)
+                : transactionRepository.findByIdAndUserIdAndDate(id, userId, date);
+        return transaction.orElseThrow(() -> new NotFoundException("Transacao nao encontrada."));
     }
 
     private Specification<FinanceTransaction> buildSpecification(UUID userId,
                                                                  String month,
                                                                  UUID categoryId,
                                                                  TransactionType type,
-                                                                 String q) {
+                                                                 String q,
+                                                                 TransactionSearchMode search) {
         return (root, query, builder) -> {
             List<Predicate> predicates = new ArrayList<>();
             predicates.add(builder.equal(root.get("user").get("id"), userId));
@@ -147,24 +375,61 @@ public class TransactionService {
             }
 
             if (q != null && !q.isBlank()) {
-                predicates.add(builder.like(builder.lower(root.get("description")), "%" + q.toLowerCase() + "%"));
+                if (search == TransactionSearchMode.RANKED) {
+                    Expression<String> description = root.get("description");
+                    Expression<String> terms = ((HibernateCriteriaBuilder) builder).value(q.trim());
+                    predicates.add(builder.isTrue(builder.function(SearchFunctionContributor.MATCH_FUNCTION, Boolean.class,
+                            description, terms)));
+                    if (!Long.class.equals(query.getResultType())) {
+                        query.orderBy(builder.desc(builder.function(SearchFunctionContributor.RANK_FUNCTION, Double.class,
+                                description, terms)));
+                    }
+                } else if (search == TransactionSearchMode.WORDS) {
+                    for (String term : q.trim().toLowerCase(Locale.ROOT).split("\\s+")) {
+                        predicates.add(builder.like(builder.lower(root.get("description")),
+                                "%" + escapeLike(term) + "%", LIKE_ESCAPE));
+                    }
+                } else {
+                    predicates.add(builder.like(builder.lower(root.get("description")),
+                            "%" + escapeLike(q.toLowerCase(Locale.ROOT)) + "%", LIKE_ESCAPE));
+                }
             }
 
             return builder.and(predicates.toArray(Predicate[]::new));
         };
     }
 
-    private TransactionResponse toResponse(FinanceTransaction transaction) {
-        return new TransactionResponse(
-                transaction.getId(),
-                transaction.getCategory().getId(),
-                transaction.getCategory().getName(),
-                transaction.getType(),
-                transaction.getDescription(),
-                transaction.getAmount(),
-                transaction.getDate(),
-                transaction.getCreatedAt(),
-                transaction.getUpdatedAt()
-        );
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private Specification<FinanceTransaction> keysetAfter(TransactionCursor cursor) {
+        return (root, query, builder) -> {
+            Path<LocalDate> date = root.get("date");
+            Path<Instant> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("id");
+
+            return builder.and(
+                    builder.lessThanOrEqualTo(date, cursor.date()),
+                    builder.or(
+                            builder.lessThan(date, cursor.date()),
+                            builder.and(builder.equal(date, cursor.date()), builder.lessThan(createdAt, cursor.createdAt())),
+                            builder.and(builder.equal(date, cursor.date()), builder.equal(createdAt, cursor.createdAt()),
+                                    builder.lessThan(id, cursor.id()))
+                    )
+            );
+        };
+    }
+
+    private static TransactionBatchItemResponse failed(int index,
+                                                       TransactionBatchOperation operation,
+                                                       HttpStatus status,
+                                                       String message) {
+        return new TransactionBatchItemResponse(index, operation.action(), status.value(), operation.id(), null, message);
+    }
+
+    private record BatchItem(int index, TransactionBatchAction action, FinanceTransaction transaction) {
     }
 }
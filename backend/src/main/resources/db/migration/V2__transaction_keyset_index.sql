@@ -0,0 +1,3 @@
+DROP INDEX IF EXISTS idx_transaction_user_date;
+
+CREATE INDEX idx_transaction_user_date ON finance_transaction (user_id, date DESC, created_at DESC, id DESC);
@@ -0,0 +1,6 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP INDEX IF EXISTS idx_transaction_description_search;
+
+CREATE INDEX idx_transaction_description_trgm ON finance_transaction USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX idx_transaction_description_fts ON finance_transaction USING gin (to_tsvector('simple', description));
@@ -0,0 +1,16 @@
+CREATE TABLE monthly_category_total (
+    user_id UUID NOT NULL REFERENCES app_user(id) ON DELETE CASCADE,
+    month_ref DATE NOT NULL,
+    category_id UUID NOT NULL REFERENCES category(id) ON DELETE CASCADE,
+    type VARCHAR(20) NOT NULL CHECK (type IN ('INCOME', 'EXPENSE')),
+    total NUMERIC(16,2) NOT NULL DEFAULT 0,
+    tx_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, month_ref, category_id, type)
+);
+
+CREATE INDEX idx_monthly_category_total_category ON monthly_category_total (category_id);
+
+INSERT INTO monthly_category_total (user_id, month_ref, category_id, type, total, tx_count)
+SELECT user_id, CAST(date_trunc('month', date) AS DATE), category_id, type, SUM(amount), COUNT(*)
+FROM finance_transaction
+GROUP BY user_id, CAST(date_trunc('month', date) AS DATE), category_id, type;
@@ -0,0 +1,75 @@
+ALTER TABLE finance_transaction RENAME TO finance_transaction_legacy;
+ALTER TABLE finance_transaction_legacy RENAME CONSTRAINT finance_transaction_pkey TO finance_transaction_legacy_pkey;
+
+CREATE TABLE finance_transaction (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL REFERENCES app_user(id) ON DELETE CASCADE,
+    category_id UUID NOT NULL REFERENCES category(id) ON DELETE RESTRICT,
+    type VARCHAR(20) NOT NULL CHECK (type IN ('INCOME', 'EXPENSE')),
+    description VARCHAR(255) NOT NULL,
+    amount NUMERIC(14,2) NOT NULL CHECK (amount > 0),
+    date DATE NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT now(),
+    updated_at TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, date)
+) PARTITION BY RANGE (date);
+
+CREATE TABLE finance_transaction_default PARTITION OF finance_transaction DEFAULT;
+
+CREATE FUNCTION ensure_finance_transaction_partitions(p_from DATE, p_to DATE)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_start DATE := CAST(date_trunc('year', p_from) AS DATE);
+    v_end DATE;
+    v_name TEXT;
+    v_created INTEGER := 0;
+BEGIN
+    WHILE v_start <= p_to LOOP
+        v_end := CAST(v_start + INTERVAL '1 year' AS DATE);
+        v_name := 'finance_transaction_' || to_char(v_start, 'YYYY');
+        IF to_regclass(v_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE finance_transaction INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+            EXECUTE format(
+                'WITH moved AS (DELETE FROM finance_transaction_default WHERE date >= %L AND date < %L RETURNING *) '
+                    || 'INSERT INTO %I SELECT * FROM moved',
+                v_start, v_end, v_name);
+            EXECUTE format('ALTER TABLE finance_transaction ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                v_name, v_start, v_end);
+            v_created := v_created + 1;
+        END IF;
+        v_start := v_end;
+    END LOOP;
+    RETURN v_created;
+END;
+$$;
+
+CREATE FUNCTION maintain_finance_transaction_partitions(p_years_ahead INTEGER)
+RETURNS INTEGER
+LANGUAGE sql
+AS $$
+    SELECT ensure_finance_transaction_partitions(
+        LEAST(CURRENT_DATE, COALESCE((SELECT MIN(date) FROM finance_transaction_default), CURRENT_DATE)),
+        CAST(CURRENT_DATE + make_interval(years => p_years_ahead) AS DATE)
+    );
+$$;
+
+SELECT ensure_finance_transaction_partitions(
+    LEAST(CURRENT_DATE, COALESCE((SELECT MIN(date) FROM finance_transaction_legacy), CURRENT_DATE)),
+    CAST(CURRENT_DATE + INTERVAL '1 year' AS DATE)
+);
+
+INSERT INTO finance_transaction (id, user_id, category_id, type, description, amount, date, created_at, updated_at)
+SELECT id, user_id, category_id, type, description, amount, date, created_at, updated_at
+FROM finance_transaction_legacy;
+
+DROP TABLE finance_transaction_legacy;
+
+CREATE INDEX idx_transaction_user_date ON finance_transaction (user_id, date DESC, created_at DESC, id DESC);
+CREATE INDEX idx_transaction_user_category ON finance_transaction (user_id, category_id);
+CREATE INDEX idx_transaction_user_type_date ON finance_transaction (user_id, type, date DESC);
+CREATE INDEX idx_transaction_description_trgm ON finance_transaction USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX idx_transaction_description_fts ON finance_transaction USING gin (to_tsvector('simple', description));
+
+ANALYZE finance_transaction;
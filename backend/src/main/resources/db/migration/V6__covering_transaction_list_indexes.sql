@@ -0,0 +1,14 @@
+DROP INDEX IF EXISTS idx_transaction_user_date;
+CREATE INDEX idx_transaction_user_date
+    ON finance_transaction (user_id, date DESC, created_at DESC, id DESC)
+    INCLUDE (category_id, type, amount, description, updated_at);
+
+DROP INDEX IF EXISTS idx_transaction_user_category;
+CREATE INDEX idx_transaction_user_category
+    ON finance_transaction (user_id, category_id, date DESC, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_transaction_user_type_date;
+CREATE INDEX idx_transaction_user_type_date
+    ON finance_transaction (user_id, type, date DESC, created_at DESC, id DESC);
+
+ANALYZE finance_transaction;
@@ -0,0 +1 @@
+ALTER TABLE app_user ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
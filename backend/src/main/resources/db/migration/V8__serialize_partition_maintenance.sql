@@ -0,0 +1,35 @@
+CREATE OR REPLACE FUNCTION ensure_finance_transaction_partitions(p_from DATE, p_to DATE)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_start DATE := CAST(date_trunc('year', p_from) AS DATE);
+    v_end DATE;
+    v_name TEXT;
+    v_created INTEGER := 0;
+BEGIN
+    -- Every instance runs the maintainer at startup and on the same cron; serialize them so only one
+    -- of them moves rows out of the default partition and attaches each year.
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_finance_transaction_partitions'));
+    WHILE v_start <= p_to LOOP
+        v_end := CAST(v_start + INTERVAL '1 year' AS DATE);
+        v_name := 'finance_transaction_' || to_char(v_start, 'YYYY');
+        IF NOT EXISTS (
+            SELECT 1 FROM pg_inherits
+            WHERE inhparent = 'finance_transaction'::regclass AND inhrelid = to_regclass(v_name)
+        ) THEN
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I (LIKE finance_transaction INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                v_name);
+            EXECUTE format(
+                'WITH moved AS (DELETE FROM finance_transaction_default WHERE date >= %L AND date < %L RETURNING *) '
+                    || 'INSERT INTO %I SELECT * FROM moved',
+                v_start, v_end, v_name);
+            EXECUTE format('ALTER TABLE finance_transaction ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                v_name, v_start, v_end);
+            v_created := v_created + 1;
+        END IF;
+        v_start := v_end;
+    END LOOP;
+    RETURN v_created;
+END;
+$$;
@@ -0,0 +1,16 @@
+-- V5 made the primary key (id, date) because a unique index on a partitioned table must include the
+-- partition column. That has two consequences, kept on purpose:
+--
+-- * id is only unique per partition in the schema. Ids are never taken from clients: Hibernate and
+--   gen_random_uuid() both generate random UUIDs, so a cross-partition duplicate is not a practical
+--   risk, and a global check would cost one probe per partition on every row of a bulk import.
+-- * A lookup by id alone cannot be pruned and probes the (id, date) index of every yearly partition.
+--   GET, PATCH and DELETE /transactions/{id} accept an optional ?date= so clients that already hold
+--   the row (every list response carries it) hit a single partition.
+--
+-- Moving the check into the database would need a non-partitioned id table maintained by a trigger,
+-- which is what V5 avoided.
+
+COMMENT ON TABLE finance_transaction IS
+    'Partitioned by year on date. PK is (id, date): ids are unique only per partition and are always '
+    'generated server-side (random UUID). Lookups by id alone scan every partition; pass the date when known.';
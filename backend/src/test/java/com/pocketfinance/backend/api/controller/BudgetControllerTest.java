@@ -1,14 +1,23 @@
 package com.pocketfinance.backend.api.controller;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.pocketfinance.backend.api.dto.BudgetCreateRequest;
 import com.pocketfinance.backend.api.dto.BudgetResponse;
+import com.pocketfinance.backend.api.dto.BudgetStatusResponse;
 import com.pocketfinance.backend.api.dto.BudgetUpdateRequest;
+import com.pocketfinance.backend.api.dto.CachedJson;
+import com.pocketfinance.backend.config.ResponseCacheProperties;
 import com.pocketfinance.backend.security.AppUserPrincipal;
 import com.pocketfinance.backend.service.BudgetService;
+import com.pocketfinance.backend.service.DataVersionService;
+import com.pocketfinance.backend.service.ResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -18,37 +27,63 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @ExtendWith(MockitoExtension.class)
 class BudgetControllerTest {
 
     @Mock
     private BudgetService budgetService;
+    @Mock
+    private DataVersionService dataVersionService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
     private BudgetController controller;
     private UUID userId;
     private AppUserPrincipal principal;
 
     @BeforeEach
     void setUp() {
-        controller = new BudgetController(budgetService);
+        controller = new BudgetController(budgetService, dataVersionService, new ResponseCache(
+                new ResponseCacheProperties(null, null, null), dataVersionService, objectMapper, transactionManager,
+                new SimpleMeterRegistry()));
         userId = UUID.randomUUID();
         principal = new AppUserPrincipal(userId, "demo@pocket.local", "Demo User");
     }
 
     @Test
-    void listShouldDelegateToServiceWithMonthFilter() {
+    void listShouldDelegateToServiceWithMonthFilter() throws Exception {
         List<BudgetResponse> expected = List.of(
                 new BudgetResponse(UUID.randomUUID(), UUID.randomUUID(), "Moradia", LocalDate.of(2026, 2, 1), new BigDecimal("1200.00"))
         );
         when(budgetService.list(userId, "2026-02")).thenReturn(expected);
+        when(dataVersionService.etag(userId, "budgets", List.of("2026-02"))).thenReturn("W/\"1-c3\"");
 
-        List<BudgetResponse> response = controller.list(principal, "2026-02");
+        CachedJson<List<BudgetResponse>> response = controller.list(principal, "2026-02", request());
 
-        assertEquals(expected, response);
+        assertArrayEquals(objectMapper.writeValueAsBytes(expected), response.body());
         verify(budgetService).list(userId, "2026-02");
     }
 
+    @Test
+    void statusShouldDelegateToServiceWithMonthFilter() throws Exception {
+        List<BudgetStatusResponse> expected = List.of(new BudgetStatusResponse(UUID.randomUUID(), UUID.randomUUID(),
+                "Moradia", "#112233", LocalDate.of(2026, 2, 1), new BigDecimal("1200.00"), new BigDecimal("300.00"),
+                new BigDecimal("900.00"), new BigDecimal("25.0")));
+        when(budgetService.status(userId, "2026-02")).thenReturn(expected);
+        when(dataVersionService.etag(userId, "budgets/status", List.of("2026-02"))).thenReturn("W/\"1-d4\"");
+
+        CachedJson<List<BudgetStatusResponse>> response = controller.status(principal, "2026-02", request());
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(expected), response.body());
+        verify(budgetService).status(userId, "2026-02");
+    }
+
     @Test
     void createAndUpdateShouldDelegateToService() {
         UUID categoryId = UUID.randomUUID();
@@ -68,4 +103,8 @@ class BudgetControllerTest {
         assertEquals(updated, updateResponse);
         verify(budgetService).update(userId, created.id(), updateRequest);
     }
+
+    private ServletWebRequest request() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/budgets"), new MockHttpServletResponse());
+    }
 }
@@ -1,14 +1,22 @@
 package com.pocketfinance.backend.api.controller;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.pocketfinance.backend.api.dto.CachedJson;
 import com.pocketfinance.backend.api.dto.CategoryCreateRequest;
 import com.pocketfinance.backend.api.dto.CategoryResponse;
 import com.pocketfinance.backend.api.dto.CategoryUpdateRequest;
+import com.pocketfinance.backend.config.ResponseCacheProperties;
 import com.pocketfinance.backend.security.AppUserPrincipal;
 import com.pocketfinance.backend.service.CategoryService;
+import com.pocketfinance.backend.service.DataVersionService;
+import com.pocketfinance.backend.service.ResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,32 +24,45 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @ExtendWith(MockitoExtension.class)
 class CategoryControllerTest {
 
     @Mock
     private CategoryService categoryService;
+    @Mock
+    private DataVersionService dataVersionService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
     private CategoryController controller;
     private AppUserPrincipal principal;
     private UUID userId;
 
     @BeforeEach
     void setUp() {
-        controller = new CategoryController(categoryService);
+        controller = new CategoryController(categoryService, dataVersionService, new ResponseCache(
+                new ResponseCacheProperties(null, null, null), dataVersionService, objectMapper, transactionManager,
+                new SimpleMeterRegistry()));
         userId = UUID.randomUUID();
         principal = new AppUserPrincipal(userId, "demo@pocket.local", "Demo User");
     }
 
     @Test
-    void listShouldDelegateToService() {
+    void listShouldDelegateToService() throws Exception {
         List<CategoryResponse> expected = List.of(new CategoryResponse(UUID.randomUUID(), "Alimentacao", "#00FF00"));
         when(categoryService.list(userId)).thenReturn(expected);
+        when(dataVersionService.etag(userId, "categories", List.of())).thenReturn("W/\"2-e5\"");
 
-        List<CategoryResponse> response = controller.list(principal);
+        CachedJson<List<CategoryResponse>> response = controller.list(principal,
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/categories"), new MockHttpServletResponse()));
 
-        assertEquals(expected, response);
+        assertArrayEquals(objectMapper.writeValueAsBytes(expected), response.body());
         verify(categoryService).list(userId);
     }
 
@@ -0,0 +1,54 @@
+package com.pocketfinance.backend.api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.pocketfinance.backend.api.dto.DashboardSummaryResponse;
+import com.pocketfinance.backend.security.AppUserPrincipal;
+import com.pocketfinance.backend.service.DashboardService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardControllerTest {
+
+    @Mock
+    private DashboardService dashboardService;
+
+    private DashboardController controller;
+    private UUID userId;
+    private AppUserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        controller = new DashboardController(dashboardService);
+        userId = UUID.randomUUID();
+        principal = new AppUserPrincipal(userId, "demo@pocket.local", "Demo User");
+    }
+
+    @Test
+    void summaryShouldDelegateToServiceWithMonthFilter() {
+        DashboardSummaryResponse expected = new DashboardSummaryResponse(
+                LocalDate.of(2026, 2, 1),
+                new BigDecimal("5000.00"),
+                new BigDecimal("1200.00"),
+                new BigDecimal("3800.00"),
+                List.of(),
+                List.of()
+        );
+        when(dashboardService.summary(userId, "2026-02")).thenReturn(expected);
+
+        DashboardSummaryResponse response = controller.summary(principal, "2026-02");
+
+        assertEquals(expected, response);
+        verify(dashboardService).summary(userId, "2026-02");
+    }
+}
@@ -2,14 +2,33 @@ package com.pocketfinance.backend.api.controller;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.pocketfinance.backend.api.dto.CachedJson;
 import com.pocketfinance.backend.api.dto.CsvImportResponse;
+import com.pocketfinance.backend.api.dto.ImportJobResponse;
+import com.pocketfinance.backend.api.dto.TrendResponse;
+import com.pocketfinance.backend.domain.model.ImportJobStatus;
+import com.pocketfinance.backend.domain.model.TransactionType;
 import com.pocketfinance.backend.security.AppUserPrincipal;
 import com.pocketfinance.backend.service.CsvService;
+import com.pocketfinance.backend.service.DataVersionService;
+import com.pocketfinance.backend.service.ImportJobService;
+import com.pocketfinance.backend.service.ReportService;
+import com.pocketfinance.backend.service.ResponseCache;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,20 +36,33 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @ExtendWith(MockitoExtension.class)
 class ReportControllerTest {
 
     @Mock
     private CsvService csvService;
+    @Mock
+    private ImportJobService importJobService;
+    @Mock
+    private ReportService reportService;
+    @Mock
+    private DataVersionService dataVersionService;
+    @Mock
+    private ResponseCache responseCache;
 
     private ReportController controller;
     private AppUserPrincipal principal;
 
     @BeforeEach
     void setUp() {
-        controller = new ReportController(csvService);
+        controller = new ReportController(csvService, importJobService, reportService, dataVersionService,
+                responseCache);
         principal = new AppUserPrincipal(UUID.randomUUID(), "demo@pocket.local", "Demo User");
     }
 
@@ -42,7 +74,7 @@ class ReportControllerTest {
                 "text/csv",
                 "date,description,amount,type,category\n".getBytes(StandardCharsets.UTF_8)
         );
-        CsvImportResponse expected = new CsvImportResponse(2, 1);
+        CsvImportResponse expected = new CsvImportResponse(2, 1, "jpa", 12, 166);
 
         when(csvService.importSimpleCsv(principal.getUserId(), file)).thenReturn(expected);
 
@@ -53,30 +85,90 @@ class ReportControllerTest {
     }
 
     @Test
-    void exportCsvShouldReturnAttachmentResponseWithCsvHeaders() {
+    void submitImportJobShouldReturnAcceptedWithJobLocation() {
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "transactions.csv",
+                "text/csv",
+                "date,description,amount,type,category\n".getBytes(StandardCharsets.UTF_8)
+        );
+        ImportJobResponse job = new ImportJobResponse(UUID.randomUUID(), ImportJobStatus.QUEUED, 0, 0, 0, 0,
+                "jpa", null, Instant.now(), null);
+        when(importJobService.submit(principal.getUserId(), file)).thenReturn(job);
+
+        ResponseEntity<ImportJobResponse> response = controller.submitImportJob(principal, file);
+
+        assertEquals(202, response.getStatusCode().value());
+        assertEquals("/import/jobs/" + job.id(), response.getHeaders().getLocation().toString());
+        assertEquals(job, response.getBody());
+    }
+
+    @Test
+    void exportCsvShouldReturnAttachmentResponseWithCsvHeaders() throws IOException {
         UUID categoryId = UUID.randomUUID();
         byte[] payload = "date,description\n2026-02-26,Teste\n".getBytes(StandardCharsets.UTF_8);
-        when(csvService.exportCsv(principal.getUserId(), "2026-02", categoryId)).thenReturn(payload);
+        StreamingResponseBody body = outputStream -> outputStream.write(payload);
+        when(csvService.exportCsv(principal.getUserId(), "2026-02", categoryId)).thenReturn(body);
 
-        ResponseEntity<byte[]> response = controller.exportCsv(principal, "2026-02", categoryId);
+        ResponseEntity<StreamingResponseBody> response = controller.exportCsv(principal, "2026-02", categoryId);
 
         assertEquals(200, response.getStatusCode().value());
         assertEquals("text/csv", response.getHeaders().getContentType().toString());
         assertTrue(response.getHeaders().getFirst("Content-Disposition").contains("transactions.csv"));
-        assertArrayEquals(payload, response.getBody());
+        assertArrayEquals(payload, render(response.getBody()));
         verify(csvService).exportCsv(principal.getUserId(), "2026-02", categoryId);
     }
 
     @Test
-    void exportCsvShouldAllowNullFilters() {
+    void exportCsvShouldAllowNullFilters() throws IOException {
         byte[] payload = "date,description\n".getBytes(StandardCharsets.UTF_8);
-        when(csvService.exportCsv(principal.getUserId(), null, null)).thenReturn(payload);
+        StreamingResponseBody body = outputStream -> outputStream.write(payload);
+        when(csvService.exportCsv(principal.getUserId(), null, null)).thenReturn(body);
 
-        ResponseEntity<byte[]> response = controller.exportCsv(principal, null, null);
+        ResponseEntity<StreamingResponseBody> response = controller.exportCsv(principal, null, null);
 
         assertEquals(200, response.getStatusCode().value());
         assertEquals("text/csv", response.getHeaders().getContentType().toString());
-        assertArrayEquals(payload, response.getBody());
+        assertArrayEquals(payload, render(response.getBody()));
         verify(csvService).exportCsv(principal.getUserId(), null, null);
     }
+
+    @Test
+    void trendShouldAnswerNotModifiedWhenEtagMatches() {
+        when(dataVersionService.etag(principal.getUserId(), "reports/trend",
+                Arrays.asList("2026-01", "2026-03", "type", TransactionType.EXPENSE))).thenReturn("W/\"7-f6\"");
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/reports/trend");
+        servletRequest.addHeader("If-None-Match", "W/\"7-f6\"");
+        ServletWebRequest request = new ServletWebRequest(servletRequest, new MockHttpServletResponse());
+
+        CachedJson<TrendResponse> response = controller.trend(principal, " 2026-01", "2026-03 ", "TYPE",
+                TransactionType.EXPENSE, request);
+
+        assertNull(response);
+        assertEquals(304, ((MockHttpServletResponse) request.getResponse()).getStatus());
+        verifyNoInteractions(responseCache, reportService);
+    }
+
+    @Test
+    void trendShouldTagCachedResponse() {
+        List<Object> parameters = Arrays.asList("2026-01", "2026-03", "category", null);
+        CachedJson<TrendResponse> cached = new CachedJson<>(new byte[0], "W/\"8-a0\"");
+        when(dataVersionService.etag(principal.getUserId(), "reports/trend", parameters)).thenReturn("W/\"8-a0\"");
+        when(responseCache.<TrendResponse>json(eq(principal.getUserId()), eq("reports/trend"), eq(parameters), any()))
+                .thenReturn(cached);
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/reports/trend"),
+                new MockHttpServletResponse());
+
+        CachedJson<TrendResponse> response = controller.trend(principal, "2026-01", "2026-03", "category", null,
+                request);
+
+        assertSame(cached, response);
+        assertEquals("W/\"8-a0\"", ((MockHttpServletResponse) request.getResponse()).getHeader("ETag"));
+    }
+
+    private byte[] render(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
 }
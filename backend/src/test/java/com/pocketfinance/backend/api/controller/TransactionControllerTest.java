@@ -1,19 +1,39 @@
 package com.pocketfinance.backend.api.controller;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.pocketfinance.backend.api.dto.CachedJson;
+import com.pocketfinance.backend.api.dto.CursorPageResponse;
 import com.pocketfinance.backend.api.dto.PageResponse;
+import com.pocketfinance.backend.api.dto.TransactionBatchItemResponse;
+import com.pocketfinance.backend.api.dto.TransactionBatchOperation;
+import com.pocketfinance.backend.api.dto.TransactionBatchRequest;
+import com.pocketfinance.backend.api.dto.TransactionBatchResponse;
 import com.pocketfinance.backend.api.dto.TransactionCreateRequest;
 import com.pocketfinance.backend.api.dto.TransactionResponse;
 import com.pocketfinance.backend.api.dto.TransactionUpdateRequest;
+import com.pocketfinance.backend.config.ResponseCacheProperties;
+import com.pocketfinance.backend.domain.model.TransactionBatchAction;
+import com.pocketfinance.backend.domain.model.TransactionSearchMode;
 import com.pocketfinance.backend.domain.model.TransactionType;
 import com.pocketfinance.backend.security.AppUserPrincipal;
+import com.pocketfinance.backend.service.DataVersionService;
+import com.pocketfinance.backend.service.ResponseCache;
 import com.pocketfinance.backend.service.TransactionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,26 +41,37 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @ExtendWith(MockitoExtension.class)
 class TransactionControllerTest {
 
     @Mock
     private TransactionService transactionService;
+    @Mock
+    private DataVersionService dataVersionService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
     private TransactionController controller;
     private UUID userId;
     private AppUserPrincipal principal;
 
     @BeforeEach
     void setUp() {
-        controller = new TransactionController(transactionService);
+        controller = new TransactionController(transactionService, dataVersionService, new ResponseCache(
+                new ResponseCacheProperties(null, null, null), dataVersionService, objectMapper, transactionManager,
+                new SimpleMeterRegistry()));
         userId = UUID.randomUUID();
         principal = new AppUserPrincipal(userId, "demo@pocket.local", "Demo User");
     }
 
     @Test
-    void listShouldDelegateWithFiltersAndPage() {
+    void listShouldDelegateWithFiltersAndPage() throws Exception {
         UUID categoryId = UUID.randomUUID();
         PageResponse<TransactionResponse> expected = new PageResponse<>(
                 List.of(sampleTransaction(UUID.randomUUID(), categoryId)),
@@ -50,13 +81,120 @@ class TransactionControllerTest {
                 1,
                 true
         );
-        when(transactionService.list(userId, "2026-02", categoryId, TransactionType.EXPENSE, "mercado", 0)).thenReturn(expected);
+        when(transactionService.list(userId, "2026-02", categoryId, TransactionType.EXPENSE, "mercado",
+                TransactionSearchMode.RANKED, 0)).thenReturn(expected);
+        when(dataVersionService.etag(userId, "transactions", Arrays.asList("2026-02", categoryId, TransactionType.EXPENSE,
+                "mercado", TransactionSearchMode.RANKED, 0))).thenReturn("W/\"3-a1\"");
+
+        CachedJson<PageResponse<TransactionResponse>> response = controller.list(principal, "2026-02", categoryId,
+                TransactionType.EXPENSE, "mercado", TransactionSearchMode.RANKED, 0, request(null));
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(expected), response.body());
+        verify(transactionService).list(userId, "2026-02", categoryId, TransactionType.EXPENSE, "mercado",
+                TransactionSearchMode.RANKED, 0);
+    }
+
+    @Test
+    void listAfterShouldDelegateWithFiltersAndCursor() throws Exception {
+        UUID categoryId = UUID.randomUUID();
+        CursorPageResponse<TransactionResponse> expected = new CursorPageResponse<>(
+                List.of(sampleTransaction(UUID.randomUUID(), categoryId)),
+                20,
+                null,
+                true
+        );
+        when(transactionService.listAfter(userId, "2026-02", categoryId, TransactionType.EXPENSE, "uber eats",
+                TransactionSearchMode.WORDS, "cursor-token")).thenReturn(expected);
+        when(dataVersionService.etag(userId, "transactions/cursor", Arrays.asList("2026-02", categoryId,
+                TransactionType.EXPENSE, "uber eats", TransactionSearchMode.WORDS, "cursor-token"))).thenReturn("W/\"3-b2\"");
+
+        CachedJson<CursorPageResponse<TransactionResponse>> response = controller.listAfter(principal, "2026-02",
+                categoryId, TransactionType.EXPENSE, "uber eats", TransactionSearchMode.WORDS, "cursor-token",
+                request(null));
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(expected), response.body());
+        verify(transactionService).listAfter(userId, "2026-02", categoryId, TransactionType.EXPENSE, "uber eats",
+                TransactionSearchMode.WORDS, "cursor-token");
+    }
+
+    @Test
+    void listShouldServeRepeatedQueriesFromCacheUntilDataVersionChanges() {
+        PageResponse<TransactionResponse> expected = new PageResponse<>(List.of(), 0, 20, 0, 0, true);
+        when(transactionService.list(userId, "2026-02", null, null, null, TransactionSearchMode.CONTAINS, 0))
+                .thenReturn(expected);
+        when(dataVersionService.current(userId)).thenReturn(1L, 1L, 2L);
+
+        byte[] first = controller.list(principal, "2026-02", null, null, null, TransactionSearchMode.CONTAINS, 0,
+                request(null)).body();
+        byte[] second = controller.list(principal, "2026-02", null, null, null, TransactionSearchMode.CONTAINS, 0,
+                request(null)).body();
+        controller.list(principal, "2026-02", null, null, null, TransactionSearchMode.CONTAINS, 0, request(null));
+
+        assertSame(first, second);
+        verify(transactionService, times(2)).list(userId, "2026-02", null, null, null, TransactionSearchMode.CONTAINS, 0);
+    }
+
+    @Test
+    void listShouldShareCacheEntryAcrossPaddedAndDifferentlyCasedQueries() {
+        PageResponse<TransactionResponse> expected = new PageResponse<>(List.of(), 0, 20, 0, 0, true);
+        when(transactionService.list(userId, "2026-02", null, null, "uber eats", TransactionSearchMode.CONTAINS, 0))
+                .thenReturn(expected);
+        when(dataVersionService.current(userId)).thenReturn(1L);
 
-        PageResponse<TransactionResponse> response =
-                controller.list(principal, "2026-02", categoryId, TransactionType.EXPENSE, "mercado", 0);
+        byte[] first = controller.list(principal, "2026-02", null, null, "Uber Eats", TransactionSearchMode.CONTAINS,
+                0, request(null)).body();
+        byte[] second = controller.list(principal, " 2026-02 ", null, null, "  uber eats ",
+                TransactionSearchMode.CONTAINS, 0, request(null)).body();
 
-        assertEquals(expected, response);
-        verify(transactionService).list(userId, "2026-02", categoryId, TransactionType.EXPENSE, "mercado", 0);
+        assertSame(first, second);
+        verify(transactionService).list(userId, "2026-02", null, null, "uber eats", TransactionSearchMode.CONTAINS, 0);
+    }
+
+    @Test
+    void listAfterShouldKeepCursorCaseAndDropBlankFilters() {
+        CursorPageResponse<TransactionResponse> expected = new CursorPageResponse<>(List.of(), 20, null, false);
+        when(transactionService.listAfter(userId, null, null, null, null, TransactionSearchMode.CONTAINS, "AbC-x_9"))
+                .thenReturn(expected);
+
+        controller.listAfter(principal, " ", null, null, "", TransactionSearchMode.CONTAINS, " AbC-x_9 ", request(null));
+
+        verify(transactionService).listAfter(userId, null, null, null, null, TransactionSearchMode.CONTAINS, "AbC-x_9");
+        verify(dataVersionService).etag(userId, "transactions/cursor",
+                Arrays.asList(null, null, null, null, TransactionSearchMode.CONTAINS, "AbC-x_9"));
+    }
+
+    @Test
+    void listShouldTagResponseWithVersionBodyWasLoadedAt() {
+        List<Object> parameters = Arrays.asList("2026-02", null, null, null, TransactionSearchMode.CONTAINS, 0);
+        when(transactionService.list(userId, "2026-02", null, null, null, TransactionSearchMode.CONTAINS, 0))
+                .thenReturn(new PageResponse<>(List.of(), 0, 20, 0, 0, true));
+        when(dataVersionService.etag(userId, "transactions", parameters)).thenReturn("W/\"3-a1\"");
+        when(dataVersionService.current(userId)).thenReturn(4L);
+        ServletWebRequest request = request(null);
+
+        CachedJson<PageResponse<TransactionResponse>> response = controller.list(principal, "2026-02", null, null, null,
+                TransactionSearchMode.CONTAINS, 0, request);
+
+        String expected = DataVersionService.etag(userId, 4L, "transactions", parameters);
+        assertEquals(expected, response.etag());
+        assertEquals(expected, ((MockHttpServletResponse) request.getResponse()).getHeader("ETag"));
+    }
+
+    @Test
+    void listShouldAnswerNotModifiedWhenEtagMatches() {
+        when(dataVersionService.etag(userId, "transactions", Arrays.asList("2026-02", null, null, null, null, 0)))
+                .thenReturn("W/\"3-a1\"");
+        ServletWebRequest request = request("W/\"3-a1\"");
+
+        CachedJson<PageResponse<TransactionResponse>> response =
+                controller.list(principal, "2026-02", null, null, null, null, 0, request);
+
+        assertNull(response);
+        MockHttpServletResponse servletResponse = (MockHttpServletResponse) request.getResponse();
+        assertEquals(304, servletResponse.getStatus());
+        assertEquals("W/\"3-a1\"", servletResponse.getHeader("ETag"));
+        assertEquals("no-cache, private", servletResponse.getHeader("Cache-Control"));
+        verifyNoInteractions(transactionService);
     }
 
     @Test
@@ -72,12 +210,12 @@ class TransactionControllerTest {
         );
         TransactionResponse created = sampleTransaction(transactionId, categoryId);
         when(transactionService.create(userId, createRequest)).thenReturn(created);
-        when(transactionService.getById(userId, transactionId)).thenReturn(created);
+        when(transactionService.getById(userId, transactionId, LocalDate.of(2026, 2, 26))).thenReturn(created);
 
         assertEquals(created, controller.create(principal, createRequest));
-        assertEquals(created, controller.get(principal, transactionId));
+        assertEquals(created, controller.get(principal, transactionId, LocalDate.of(2026, 2, 26)));
         verify(transactionService).create(userId, createRequest);
-        verify(transactionService).getById(userId, transactionId);
+        verify(transactionService).getById(userId, transactionId, LocalDate.of(2026, 2, 26));
 
         TransactionUpdateRequest updateRequest = new TransactionUpdateRequest(
                 categoryId,
@@ -97,13 +235,33 @@ class TransactionControllerTest {
                 created.createdAt(),
                 Instant.parse("2026-02-27T10:00:00Z")
         );
-        when(transactionService.update(userId, transactionId, updateRequest)).thenReturn(updated);
+        when(transactionService.update(userId, transactionId, null, updateRequest)).thenReturn(updated);
+
+        assertEquals(updated, controller.update(principal, transactionId, null, updateRequest));
+        verify(transactionService).update(userId, transactionId, null, updateRequest);
 
-        assertEquals(updated, controller.update(principal, transactionId, updateRequest));
-        verify(transactionService).update(userId, transactionId, updateRequest);
+        controller.delete(principal, transactionId, null);
+        verify(transactionService).delete(userId, transactionId, null);
+    }
+
+    @Test
+    void batchShouldDelegateToService() {
+        TransactionBatchRequest request = new TransactionBatchRequest(List.of(new TransactionBatchOperation(
+                TransactionBatchAction.DELETE, UUID.randomUUID(), null, null, null, null, null)));
+        TransactionBatchResponse expected = new TransactionBatchResponse(1, 0, List.of(new TransactionBatchItemResponse(
+                0, TransactionBatchAction.DELETE, 204, request.operations().getFirst().id(), null, null)));
+        when(transactionService.batch(userId, request)).thenReturn(expected);
+
+        assertEquals(expected, controller.batch(principal, request));
+        verify(transactionService).batch(userId, request);
+    }
 
-        controller.delete(principal, transactionId);
-        verify(transactionService).delete(userId, transactionId);
+    private ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/transactions");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
     }
 
     private TransactionResponse sampleTransaction(UUID transactionId, UUID categoryId) {
@@ -0,0 +1,147 @@
+package com.pocketfinance.backend.api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pocketfinance.backend.domain.model.User;
+import com.pocketfinance.backend.domain.repository.UserRepository;
+import com.pocketfinance.backend.security.JwtService;
+import com.pocketfinance.backend.support.EmbeddedPostgresDatabase;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WriteEtagTest {
+
+    private static final String LIST = "/transactions?month=2026-03";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private String token;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail("etag-" + UUID.randomUUID() + "@pocket.local");
+        user.setFullName("ETag");
+        user.setPasswordHash("x");
+        user = userRepository.save(user);
+        token = "Bearer " + jwtService.generateAccessToken(user);
+    }
+
+    @Test
+    void everyWriteShouldBumpDataVersionAndInvalidateListEtag() throws Exception {
+        JsonNode category = json(write(post("/categories").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Mercado\",\"color\":\"#112233\"}")));
+        String categoryId = category.get("id").asText();
+
+        write(patch("/categories/" + categoryId).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Feira\",\"color\":\"#445566\"}"));
+
+        JsonNode transaction = json(write(post("/transactions").contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"categoryId":"%s","type":"EXPENSE","description":"Hortifruti","amount":25.90,"date":"2026-03-04"}
+                        """.formatted(categoryId))));
+        String transactionId = transaction.get("id").asText();
+
+        write(patch("/transactions/" + transactionId).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":30.00}"));
+
+        write(post("/transactions/batch").contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"operations":[{"action":"CREATE","categoryId":"%s","type":"INCOME","description":"Reembolso","amount":5.00,"date":"2026-03-05"}]}
+                        """.formatted(categoryId)));
+
+        write(delete("/transactions/" + transactionId));
+
+        write(multipart("/import/csv").file(new MockMultipartFile("file", "transactions.csv", "text/csv",
+                "date,description,amount,type,category\n2026-03-06,Importada,12.00,EXPENSE,Feira\n"
+                        .getBytes(StandardCharsets.UTF_8))));
+
+        JsonNode budget = json(write(post("/budgets").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"month\":\"2026-03\",\"categoryId\":\"%s\",\"amount\":500.00}".formatted(categoryId))));
+
+        write(patch("/budgets/" + budget.get("id").asText()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":650.00}"));
+
+        String emptyCategory = json(write(post("/categories").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Vazia\",\"color\":\"#000000\"}"))).get("id").asText();
+        write(delete("/categories/" + emptyCategory));
+    }
+
+    private String write(MockHttpServletRequestBuilder request) throws Exception {
+        long versionBefore = dataVersion();
+        String etagBefore = listEtag();
+
+        String body = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(versionBefore + 1, dataVersion(), body);
+        String etagAfter = listEtag();
+        assertNotEquals(etagBefore, etagAfter);
+        mockMvc.perform(get(LIST).header(HttpHeaders.AUTHORIZATION, token).header(HttpHeaders.IF_NONE_MATCH, etagBefore))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(LIST).header(HttpHeaders.AUTHORIZATION, token).header(HttpHeaders.IF_NONE_MATCH, etagAfter))
+                .andExpect(status().isNotModified());
+        return body;
+    }
+
+    private String listEtag() throws Exception {
+        String etag = mockMvc.perform(get(LIST).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        return etag;
+    }
+
+    private long dataVersion() {
+        return jdbcTemplate.queryForObject("SELECT data_version FROM app_user WHERE id = ?", Long.class, user.getId());
+    }
+
+    private JsonNode json(String body) throws Exception {
+        return objectMapper.readTree(body);
+    }
+}
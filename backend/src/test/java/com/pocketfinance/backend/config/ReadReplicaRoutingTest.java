@@ -0,0 +1,160 @@
+package com.pocketfinance.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pocketfinance.backend.api.dto.CategoryCreateRequest;
+import com.pocketfinance.backend.api.dto.TransactionCreateRequest;
+import com.pocketfinance.backend.domain.model.TransactionSearchMode;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.security.AppUserPrincipal;
+import com.pocketfinance.backend.service.CategoryService;
+import com.pocketfinance.backend.service.CsvService;
+import com.pocketfinance.backend.service.ImportProgress;
+import com.pocketfinance.backend.service.TransactionService;
+import com.pocketfinance.backend.support.EmbeddedPostgresDatabase;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "app.read-replicas.primary-pin=500ms")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CsvService csvService;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.registerWithReplica(registry);
+    }
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsShouldGoToReplicaAndWritesToPrimary() {
+        assertTrue(readsFromReplica());
+        assertEquals(Boolean.FALSE, new TransactionTemplate(transactionManager).execute(status -> inRecovery()));
+    }
+
+    @Test
+    void userShouldBePinnedToPrimaryAfterWriting() throws InterruptedException {
+        UUID writer = user("writer");
+        UUID reader = user("reader");
+
+        authenticate(writer);
+        UUID categoryId = categoryService.create(writer, new CategoryCreateRequest("Replica", "#123456")).id();
+        transactionService.create(writer, new TransactionCreateRequest(categoryId, TransactionType.EXPENSE, "Logo apos escrever",
+                new BigDecimal("10.00"), LocalDate.of(2026, 3, 1)));
+
+        assertFalse(readsFromReplica());
+        assertEquals(1, transactionService.list(writer, "2026-03", null, null, null, TransactionSearchMode.CONTAINS, 0)
+                .totalElements());
+
+        authenticate(reader);
+        assertTrue(readsFromReplica());
+
+        authenticate(writer);
+        Thread.sleep(700);
+        assertTrue(readsFromReplica());
+        awaitReplication();
+        assertEquals(1, transactionService.list(writer, "2026-03", null, null, null, TransactionSearchMode.CONTAINS, 0)
+                .totalElements());
+    }
+
+    @Test
+    void backgroundWritesWithoutSecurityContextShouldStillPinUser() throws InterruptedException {
+        UUID importer = user("importer");
+        jdbcTemplate.update("INSERT INTO category (user_id, name, color) VALUES (?, 'Importada', '#654321')", importer);
+        SecurityContextHolder.clearContext();
+        awaitOnReplica("SELECT count(*) > 0 FROM category WHERE user_id = ?", importer);
+
+        csvService.importCsv(importer, new ByteArrayInputStream("""
+                date,description,amount,type,category
+                2026-03-02,Importada em segundo plano,12.00,EXPENSE,Importada
+                """.getBytes(StandardCharsets.UTF_8)), new ImportProgress());
+
+        authenticate(importer);
+        assertFalse(readsFromReplica());
+        assertEquals(1, transactionService.list(importer, "2026-03", null, null, null, TransactionSearchMode.CONTAINS, 0)
+                .totalElements());
+    }
+
+    private boolean readsFromReplica() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return Boolean.TRUE.equals(readOnly.execute(status -> inRecovery()));
+    }
+
+    private Boolean inRecovery() {
+        return jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class);
+    }
+
+    private UUID user(String name) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO app_user (email, password_hash, full_name) VALUES (?, 'x', ?) RETURNING id
+                """, UUID.class, name + "-" + UUID.randomUUID() + "@pocket.local", name);
+    }
+
+    private void awaitReplication() throws InterruptedException {
+        String lsn = jdbcTemplate.queryForObject("SELECT pg_current_wal_lsn()::text", String.class);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        for (int attempt = 0; attempt < 100; attempt++) {
+            Boolean replayed = readOnly.execute(status -> jdbcTemplate.queryForObject(
+                    "SELECT pg_last_wal_replay_lsn() >= CAST(? AS pg_lsn)", Boolean.class, lsn));
+            if (Boolean.TRUE.equals(replayed)) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("A replica nao alcancou o LSN " + lsn);
+    }
+
+    private void awaitOnReplica(String condition, Object... arguments) throws InterruptedException {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        for (int attempt = 0; attempt < 100; attempt++) {
+            if (Boolean.TRUE.equals(readOnly.execute(status -> jdbcTemplate.queryForObject(condition, Boolean.class,
+                    arguments)))) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("A replica nao alcancou: " + condition);
+    }
+
+    private static void authenticate(UUID userId) {
+        AppUserPrincipal principal = new AppUserPrincipal(userId, userId + "@pocket.local", "Replica");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,109 @@
+package com.pocketfinance.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.pocketfinance.backend.security.AppUserPrincipal;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource primary = mock(DataSource.class);
+    private final HikariDataSource first = mock(HikariDataSource.class);
+    private final HikariDataSource second = mock(HikariDataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection firstConnection = mock(Connection.class);
+    private final Connection secondConnection = mock(Connection.class);
+
+    private PrimaryReadPins primaryReadPins;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(first.getConnection()).thenReturn(firstConnection);
+        when(second.getConnection()).thenReturn(secondConnection);
+        primaryReadPins = new PrimaryReadPins(new ReadReplicaProperties(List.of("jdbc:postgresql://replica/pocket"), null,
+                null, 0, null, Duration.ofMinutes(1), 100));
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(first, second), primaryReadPins, meterRegistry);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyConnectionsShouldRoundRobinAcrossReplicas() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(firstConnection, dataSource.getConnection());
+        assertSame(secondConnection, dataSource.getConnection());
+        assertSame(firstConnection, dataSource.getConnection());
+        assertEquals(3.0, reads("replica", "read-only"));
+    }
+
+    @Test
+    void readWriteConnectionsShouldUsePrimary() throws SQLException {
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void userShouldReadFromPrimaryAfterCommittingWrite() throws SQLException {
+        UUID writer = UUID.randomUUID();
+        primaryReadPins.pinAfterCommit(writer);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        authenticate(writer);
+
+        assertSame(firstConnection, dataSource.getConnection());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertEquals(1.0, reads("primary", "pinned"));
+
+        authenticate(UUID.randomUUID());
+        assertSame(secondConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void unavailableReplicasShouldFallBackToNextReplicaThenPrimary() throws SQLException {
+        when(first.getConnection()).thenThrow(new SQLTransientConnectionException("timeout"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(secondConnection, dataSource.getConnection());
+
+        when(second.getConnection()).thenThrow(new SQLTransientConnectionException("timeout"));
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertEquals(1.0, reads("primary", "replica-unavailable"));
+    }
+
+    private double reads(String target, String reason) {
+        return meterRegistry.get("datasource.reads").tag("target", target).tag("reason", reason).counter().count();
+    }
+
+    private static void authenticate(UUID userId) {
+        AppUserPrincipal principal = new AppUserPrincipal(userId, "replica@pocket.local", "Replica");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,105 @@
+package com.pocketfinance.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.pocketfinance.backend.config.RequestBulkheadFilter.Compartment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestBulkheadFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void classifyShouldSeparateInteractiveReportAndImportTraffic() {
+        assertEquals(Compartment.INTERACTIVE, RequestBulkheadFilter.classify("/transactions"));
+        assertEquals(Compartment.INTERACTIVE, RequestBulkheadFilter.classify("/dashboard/summary"));
+        assertEquals(Compartment.REPORTS, RequestBulkheadFilter.classify("/reports/trend"));
+        assertEquals(Compartment.IMPORTS, RequestBulkheadFilter.classify("/import/jobs"));
+        assertEquals(Compartment.IMPORTS, RequestBulkheadFilter.classify("/export/csv"));
+        assertNull(RequestBulkheadFilter.classify("/actuator/health"));
+        assertNull(RequestBulkheadFilter.classify("/auth/login"));
+    }
+
+    @Test
+    void filterShouldDeriveSizesFromConnectionsLeftByImportJobs() {
+        filter(new BulkheadProperties(true, Duration.ofMillis(10), 0, 0, 0), 2);
+
+        assertEquals(5.0, available("interactive"));
+        assertEquals(1.0, available("reports"));
+        assertEquals(1.0, available("imports"));
+    }
+
+    @Test
+    void disabledFilterShouldPassRequestsThroughWithoutTakingPermits() throws Exception {
+        RequestBulkheadFilter filter = filter(new BulkheadProperties(false, Duration.ofMillis(10), 1, 1, 1), 2);
+        AtomicInteger handled = new AtomicInteger();
+
+        FilterChain nested = (request, response) -> {
+            handled.incrementAndGet();
+            filter.doFilter(new MockHttpServletRequest("GET", "/transactions"), new MockHttpServletResponse(),
+                    (req, res) -> handled.incrementAndGet());
+        };
+        filter.doFilter(new MockHttpServletRequest("GET", "/transactions"), new MockHttpServletResponse(), nested);
+
+        assertEquals(2, handled.get());
+        assertEquals(1.0, available("interactive"));
+    }
+
+    @Test
+    void filterShouldRefuseToStartWhenBudgetExceedsConnectionPool() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> filter(new BulkheadProperties(true, Duration.ofMillis(10), 6, 1, 1), 2));
+
+        assertEquals("Bulkheads (interactive=6, reports=1, imports=1) mais importacoes em segundo plano (2) "
+                + "e folga para rotas sem bulkhead (1) excedem o pool de conexoes (10).", exception.getMessage());
+    }
+
+    @Test
+    void filterShouldRunAfterSpringSecurity() {
+        assertTrue(OrderUtils.getOrder(RequestBulkheadFilter.class, Ordered.LOWEST_PRECEDENCE)
+                > SecurityProperties.DEFAULT_FILTER_ORDER);
+    }
+
+    @Test
+    void filterShouldRejectWhenCompartmentIsFullAndReleaseAfterwards() throws Exception {
+        RequestBulkheadFilter filter = filter(new BulkheadProperties(true, Duration.ofMillis(10), 4, 1, 1), 2);
+        AtomicInteger handled = new AtomicInteger();
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        FilterChain nested = (request, response) -> {
+            handled.incrementAndGet();
+            filter.doFilter(new MockHttpServletRequest("GET", "/reports/trend"), rejected, (req, res) -> handled.incrementAndGet());
+        };
+        filter.doFilter(new MockHttpServletRequest("GET", "/reports/trend"), new MockHttpServletResponse(), nested);
+
+        assertEquals(1, handled.get());
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertEquals(1.0, meterRegistry.get("http.bulkhead.rejected").tag("bulkhead", "reports").counter().count());
+        assertEquals(1.0, available("reports"));
+        assertEquals(4.0, available("interactive"));
+    }
+
+    private RequestBulkheadFilter filter(BulkheadProperties properties, int importJobs) {
+        return new RequestBulkheadFilter(properties, new ImportProperties(null, importJobs, 0, null),
+                mock(DataSource.class), meterRegistry);
+    }
+
+    private double available(String bulkhead) {
+        return meterRegistry.get("http.bulkhead.available").tag("bulkhead", bulkhead).gauge().value();
+    }
+}
@@ -0,0 +1,100 @@
+package com.pocketfinance.backend.config;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.pocketfinance.backend.domain.model.User;
+import com.pocketfinance.backend.domain.repository.UserRepository;
+import com.pocketfinance.backend.security.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=health,info,prometheus,rollups",
+        "app.admin.username=ops",
+        "app.admin.password=admin-secret",
+        "app.metrics.scrape.username=scraper",
+        "app.metrics.scrape.password=scrape-secret"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.findByEmailIgnoreCase("demo@pocket.local").orElseThrow();
+    }
+
+    @Test
+    void rollupRebuildShouldRejectAnonymousAndRegularUsers() throws Exception {
+        mockMvc.perform(post("/actuator/rollups"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/rollups")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateAccessToken(user)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/rollups").with(httpBasic("demo@pocket.local", "demo123")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/rollups").with(httpBasic("ops", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void rollupRebuildShouldRunForAdmin() throws Exception {
+        mockMvc.perform(post("/actuator/rollups")
+                        .with(httpBasic("ops", "admin-secret"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"" + user.getId() + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scope").value(user.getId().toString()));
+    }
+
+    @Test
+    void prometheusShouldRejectRequestsWithoutScrapeCredentials() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateAccessToken(user)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "wrong")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("ops", "admin-secret")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void prometheusShouldRequireMetricsRole() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(user("scraper").roles("USER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void prometheusShouldServeMetricsToScraper() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "scrape-secret")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("# TYPE jvm_memory_used_bytes gauge")));
+    }
+}
@@ -0,0 +1,76 @@
+package com.pocketfinance.backend.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pocketfinance.backend.support.EmbeddedPostgresDatabase;
+import com.pocketfinance.backend.support.TestUsers;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest
+class CategoryBulkRepositoryTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TimeZone defaultZone;
+    private UUID userId;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void seed() {
+        defaultZone = TimeZone.getDefault();
+        userId = TestUsers.insert(jdbcTemplate, "Bulk");
+    }
+
+    @AfterEach
+    void restoreZone() {
+        TimeZone.setDefault(defaultZone);
+    }
+
+    @Test
+    void insertMissingShouldWriteUtcTimestampsWhateverTheJvmZone() {
+        // Far from UTC in both directions, so a local-time write would land hours outside the window.
+        for (String zone : List.of("Pacific/Kiritimati", "America/Sao_Paulo")) {
+            TimeZone.setDefault(TimeZone.getTimeZone(zone));
+            Map<String, String> colorsByName = new LinkedHashMap<>();
+            colorsByName.put("Mercado " + zone, "#112233");
+            LocalDateTime before = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS);
+
+            assertEquals(1, categoryRepository.insertMissing(userId, colorsByName));
+
+            LocalDateTime after = LocalDateTime.now(ZoneOffset.UTC).plusSeconds(1);
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT created_at, updated_at FROM category WHERE user_id = ? AND name = ?",
+                    userId, "Mercado " + zone);
+            LocalDateTime createdAt = ((Timestamp) row.get("created_at")).toLocalDateTime();
+            assertEquals(createdAt, ((Timestamp) row.get("updated_at")).toLocalDateTime());
+            assertFalse(createdAt.isBefore(before), zone + ": created_at " + createdAt + " before " + before);
+            assertTrue(createdAt.isBefore(after), zone + ": created_at " + createdAt + " after " + after);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.pocketfinance.backend.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pocketfinance.backend.domain.model.ImportJobRecord;
+import com.pocketfinance.backend.domain.model.ImportJobStatus;
+import com.pocketfinance.backend.support.EmbeddedPostgresDatabase;
+import com.pocketfinance.backend.support.TestUsers;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest
+class ImportJobRecordRepositoryTest {
+
+    @Autowired
+    private ImportJobRecordRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private Instant now;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void seed() {
+        userId = TestUsers.insert(jdbcTemplate, "Import");
+        now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @Test
+    void savedJobShouldBeVisibleOnlyToItsOwner() {
+        ImportJobRecord saved = repository.save(job(ImportJobStatus.RUNNING, now, null));
+
+        ImportJobRecord found = repository.findByIdAndUserId(saved.getId(), userId).orElseThrow();
+
+        assertEquals(ImportJobStatus.RUNNING, found.getStatus());
+        assertEquals(40, found.getImported());
+        assertEquals(now, found.getCreatedAt());
+        assertFalse(repository.findByIdAndUserId(saved.getId(), UUID.randomUUID()).isPresent());
+    }
+
+    @Test
+    void failAbandonedShouldOnlyTouchUnfinishedJobsNotUpdatedSinceThreshold() {
+        UUID abandoned = repository.save(job(ImportJobStatus.RUNNING, now.minus(Duration.ofMinutes(10)), null)).getId();
+        UUID alive = repository.save(job(ImportJobStatus.RUNNING, now, null)).getId();
+        UUID finished = repository.save(job(ImportJobStatus.COMPLETED, now.minus(Duration.ofMinutes(10)),
+                now.minus(Duration.ofMinutes(10)))).getId();
+
+        repository.failAbandoned(now.minus(Duration.ofMinutes(5)), now, "Importacao interrompida antes de terminar.");
+
+        ImportJobRecord failed = repository.findById(abandoned).orElseThrow();
+        assertEquals(ImportJobStatus.FAILED, failed.getStatus());
+        assertEquals(now, failed.getFinishedAt());
+        assertEquals(ImportJobStatus.RUNNING, repository.findById(alive).orElseThrow().getStatus());
+        assertEquals(ImportJobStatus.COMPLETED, repository.findById(finished).orElseThrow().getStatus());
+    }
+
+    @Test
+    void deleteFinishedBeforeShouldKeepRecentAndUnfinishedJobs() {
+        UUID expired = repository.save(job(ImportJobStatus.COMPLETED, now, now.minus(Duration.ofHours(2)))).getId();
+        UUID recent = repository.save(job(ImportJobStatus.FAILED, now, now)).getId();
+        UUID running = repository.save(job(ImportJobStatus.RUNNING, now, null)).getId();
+
+        repository.deleteFinishedBefore(now.minus(Duration.ofHours(1)));
+
+        assertFalse(repository.existsById(expired));
+        assertTrue(repository.existsById(recent));
+        assertTrue(repository.existsById(running));
+    }
+
+    private ImportJobRecord job(ImportJobStatus status, Instant updatedAt, Instant finishedAt) {
+        ImportJobRecord record = new ImportJobRecord();
+        record.setId(UUID.randomUUID());
+        record.setUserId(userId);
+        record.setStatus(status);
+        record.setEngine("copy");
+        record.setParsed(50);
+        record.setImported(40);
+        record.setSkipped(10);
+        record.setRowsPerSecond(400);
+        record.setCreatedAt(now);
+        record.setFinishedAt(finishedAt);
+        record.setUpdatedAt(updatedAt);
+        return record;
+    }
+}
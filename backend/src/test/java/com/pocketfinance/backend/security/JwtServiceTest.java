@@ -0,0 +1,69 @@
+package com.pocketfinance.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pocketfinance.backend.config.AccessTokenCacheProperties;
+import com.pocketfinance.backend.config.JwtProperties;
+import com.pocketfinance.backend.domain.model.User;
+import com.pocketfinance.backend.exception.UnauthorizedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JwtServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AccessTokenCache accessTokenCache =
+                new AccessTokenCache(new AccessTokenCacheProperties(100), new TokenHashService(), meterRegistry);
+        jwtService = new JwtService(
+                new JwtProperties("test-secret-with-at-least-32-bytes-1234567890", 15, 7, "pocket-finance-test"),
+                accessTokenCache
+        );
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("ana@example.com");
+        user.setFullName("Ana");
+    }
+
+    @Test
+    void parseAccessTokenShouldReuseVerifiedPrincipal() {
+        String token = jwtService.generateAccessToken(user);
+
+        AppUserPrincipal first = jwtService.parseAccessToken(token);
+        AppUserPrincipal second = jwtService.parseAccessToken(token);
+
+        assertEquals(user.getId(), first.getUserId());
+        assertEquals("ana@example.com", first.getEmail());
+        assertSame(first, second);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "access-tokens").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void parseAccessTokenShouldRejectRefreshTokens() {
+        String refreshToken = jwtService.generateRefreshToken(user);
+
+        UnauthorizedException exception =
+                assertThrows(UnauthorizedException.class, () -> jwtService.parseAccessToken(refreshToken));
+        assertEquals("Token de acesso invalido.", exception.getMessage());
+    }
+
+    @Test
+    void parseAccessTokenShouldRejectTamperedTokensOnEveryAttempt() {
+        String token = jwtService.generateAccessToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(UnauthorizedException.class, () -> jwtService.parseAccessToken(tampered));
+        assertThrows(UnauthorizedException.class, () -> jwtService.parseAccessToken(tampered));
+    }
+}
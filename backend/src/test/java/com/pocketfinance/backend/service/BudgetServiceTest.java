@@ -0,0 +1,103 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.pocketfinance.backend.api.dto.BudgetStatusResponse;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.domain.repository.BudgetRepository;
+import com.pocketfinance.backend.domain.repository.UserRepository;
+import com.pocketfinance.backend.domain.repository.projection.BudgetStatusView;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BudgetServiceTest {
+
+    private static final LocalDate MONTH = LocalDate.of(2026, 2, 1);
+
+    @Mock
+    private BudgetRepository budgetRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CategoryService categoryService;
+    @Mock
+    private DataVersionService dataVersionService;
+
+    private BudgetService budgetService;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        budgetService = new BudgetService(budgetRepository, userRepository, categoryService, new MonthParser(),
+                dataVersionService);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void statusShouldComputeRemainingAndPercentUsed() {
+        when(budgetRepository.findStatus(userId, MONTH, TransactionType.EXPENSE)).thenReturn(List.of(
+                view("Alimentacao", "1000.00", "1250.00"),
+                view("Moradia", "1500.00", "0"),
+                view("Lazer", "0.00", "40.00")
+        ));
+
+        List<BudgetStatusResponse> status = budgetService.status(userId, "2026-02");
+
+        assertEquals(3, status.size());
+        assertEquals(new BigDecimal("-250.00"), status.get(0).remaining());
+        assertEquals(new BigDecimal("125.0"), status.get(0).percentUsed());
+        assertEquals(new BigDecimal("1500.00"), status.get(1).remaining());
+        assertEquals(new BigDecimal("0.0"), status.get(1).percentUsed());
+        assertEquals(BigDecimal.ZERO, status.get(2).percentUsed());
+    }
+
+    private BudgetStatusView view(String categoryName, String budgeted, String spent) {
+        UUID budgetId = UUID.randomUUID();
+        UUID categoryId = UUID.randomUUID();
+        return new BudgetStatusView() {
+            @Override
+            public UUID getBudgetId() {
+                return budgetId;
+            }
+
+            @Override
+            public UUID getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public String getCategoryName() {
+                return categoryName;
+            }
+
+            @Override
+            public String getCategoryColor() {
+                return "#112233";
+            }
+
+            @Override
+            public LocalDate getMonthRef() {
+                return MONTH;
+            }
+
+            @Override
+            public BigDecimal getBudgeted() {
+                return new BigDecimal(budgeted);
+            }
+
+            @Override
+            public BigDecimal getSpent() {
+                return new BigDecimal(spent);
+            }
+        };
+    }
+}
@@ -1,20 +1,29 @@
 package com.pocketfinance.backend.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.pocketfinance.backend.api.dto.CategoryResponse;
 import com.pocketfinance.backend.api.dto.CategoryUpdateRequest;
+import com.pocketfinance.backend.config.CategoryCacheProperties;
 import com.pocketfinance.backend.domain.model.Category;
 import com.pocketfinance.backend.domain.model.User;
 import com.pocketfinance.backend.domain.repository.CategoryRepository;
 import com.pocketfinance.backend.domain.repository.UserRepository;
 import com.pocketfinance.backend.exception.BadRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,14 +40,19 @@ class CategoryServiceTest {
     private CategoryRepository categoryRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private DataVersionService dataVersionService;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     private CategoryService categoryService;
     private UUID userId;
     private UUID categoryId;
 
     @BeforeEach
     void setUp() {
-        categoryService = new CategoryService(categoryRepository, userRepository);
+        categoryService = new CategoryService(categoryRepository, userRepository,
+                new CategoryCache(new CategoryCacheProperties(100, Duration.ofMinutes(1)), meterRegistry),
+                dataVersionService);
         userId = UUID.randomUUID();
         categoryId = UUID.randomUUID();
     }
@@ -76,6 +90,95 @@ class CategoryServiceTest {
         verify(categoryRepository).save(current);
     }
 
+    @Test
+    void listShouldServeRepeatedCallsFromCache() {
+        Category current = category(categoryId, "Mercado", "#00FF00");
+        when(categoryRepository.findByUserIdOrderByNameAsc(userId)).thenReturn(List.of(current));
+
+        List<CategoryResponse> expected = List.of(new CategoryResponse(categoryId, "Mercado", "#00FF00"));
+        assertEquals(expected, categoryService.list(userId));
+        assertEquals(expected, categoryService.list(userId));
+
+        verify(categoryRepository, times(1)).findByUserIdOrderByNameAsc(userId);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "categories").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "categories").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void getOwnedShouldResolveFromCachedSnapshotWithoutQueryingCategory() {
+        Category current = category(categoryId, "Mercado", "#00FF00");
+        when(categoryRepository.findByUserIdOrderByNameAsc(userId)).thenReturn(List.of(current));
+
+        categoryService.list(userId);
+        CategoryResponse owned = categoryService.getOwned(userId, categoryId);
+        Map<UUID, CategoryResponse> mapped = categoryService.mapOwned(userId, List.of(categoryId, UUID.randomUUID()));
+
+        assertEquals(new CategoryResponse(categoryId, "Mercado", "#00FF00"), owned);
+        assertEquals(Map.of(categoryId, owned), mapped);
+        verify(categoryRepository, times(1)).findByUserIdOrderByNameAsc(userId);
+        verify(categoryRepository, never()).findByIdAndUserId(any(), any());
+    }
+
+    @Test
+    void rejectMissingCategoryShouldAnswerForeignKeyViolationWithBadRequestAndDropSnapshot() {
+        Category current = category(categoryId, "Mercado", "#00FF00");
+        when(categoryRepository.findByUserIdOrderByNameAsc(userId)).thenReturn(List.of(current));
+        DataIntegrityViolationException foreignKey = new DataIntegrityViolationException("fk",
+                new SQLException("insert or update violates foreign key constraint", "23503"));
+        DataIntegrityViolationException unique = new DataIntegrityViolationException("unique",
+                new SQLException("duplicate key value violates unique constraint", "23505"));
+
+        categoryService.list(userId);
+        RuntimeException rejected = categoryService.rejectMissingCategory(userId, foreignKey);
+        categoryService.list(userId);
+
+        assertEquals(BadRequestException.class, rejected.getClass());
+        assertEquals("Categoria nao pertence ao usuario.", rejected.getMessage());
+        assertSame(unique, categoryService.rejectMissingCategory(userId, unique));
+        verify(categoryRepository, times(2)).findByUserIdOrderByNameAsc(userId);
+    }
+
+    @Test
+    void updateShouldInvalidateCachedCategories() {
+        Category current = category(categoryId, "Mercado", "#00FF00");
+        when(categoryRepository.findByUserIdOrderByNameAsc(userId)).thenReturn(List.of(current));
+        when(categoryRepository.findByIdAndUserId(categoryId, userId)).thenReturn(Optional.of(current));
+        when(categoryRepository.findByUserIdAndNameIgnoreCase(userId, "Feira")).thenReturn(Optional.empty());
+        when(categoryRepository.save(current)).thenReturn(current);
+
+        categoryService.list(userId);
+        categoryService.update(userId, categoryId, new CategoryUpdateRequest("Feira", "#123456"));
+        categoryService.list(userId);
+
+        verify(categoryRepository, times(2)).findByUserIdOrderByNameAsc(userId);
+    }
+
+    @Test
+    void getOwnedShouldRejectCategoryOfAnotherUser() {
+        when(categoryRepository.findByUserIdOrderByNameAsc(userId)).thenReturn(List.of());
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> categoryService.getOwned(userId, categoryId));
+
+        assertEquals("Categoria nao pertence ao usuario.", exception.getMessage());
+    }
+
+    @Test
+    void createMissingShouldBulkInsertAndReloadByLowercaseName() {
+        Map<String, String> colorsByName = new LinkedHashMap<>();
+        colorsByName.put("Mercado", "#112233");
+        colorsByName.put("Uber", "#445566");
+        List<Category> created = List.of(category(UUID.randomUUID(), "Mercado", "#112233"),
+                category(UUID.randomUUID(), "Uber", "#445566"));
+        when(categoryRepository.findByUserIdAndLowerNameIn(userId, List.of("mercado", "uber"))).thenReturn(created);
+
+        List<Category> result = categoryService.createMissing(userId, colorsByName);
+
+        assertEquals(created, result);
+        verify(categoryRepository).insertMissing(userId, colorsByName);
+        verify(userRepository, never()).findById(any());
+    }
+
     @Test
     void deleteShouldWrapIntegrityViolationAsBadRequest() {
         Category current = category(categoryId, "Moradia", "#112233");
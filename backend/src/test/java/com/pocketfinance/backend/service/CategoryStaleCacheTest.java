@@ -0,0 +1,112 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pocketfinance.backend.api.dto.BudgetCreateRequest;
+import com.pocketfinance.backend.api.dto.BudgetResponse;
+import com.pocketfinance.backend.api.dto.CategoryResponse;
+import com.pocketfinance.backend.api.dto.TransactionCreateRequest;
+import com.pocketfinance.backend.api.dto.TransactionResponse;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.exception.BadRequestException;
+import com.pocketfinance.backend.support.CaptureConfig;
+import com.pocketfinance.backend.support.CapturedQueries;
+import com.pocketfinance.backend.support.EmbeddedPostgresDatabase;
+import com.pocketfinance.backend.support.TestUsers;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest
+@Import(CaptureConfig.class)
+class CategoryStaleCacheTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private CapturedQueries capturedQueries;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private UUID categoryId;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void seed() {
+        userId = TestUsers.insert(jdbcTemplate, "Stale");
+        categoryId = jdbcTemplate.queryForObject(
+                "INSERT INTO category (user_id, name, color) VALUES (?, 'Mercado', '#000000') RETURNING id",
+                UUID.class, userId);
+    }
+
+    @Test
+    void writesShouldResolveCategoriesFromCacheWithoutQueryingCategory() {
+        categoryService.list(userId);
+        capturedQueries.clear();
+
+        TransactionResponse created = createTransaction();
+        BudgetResponse budget = budgetService.create(userId,
+                new BudgetCreateRequest("2026-03", categoryId, new BigDecimal("100.00")));
+
+        assertEquals("Mercado", created.categoryName());
+        assertEquals("Mercado", budget.categoryName());
+        assertTrue(capturedQueries.queries().stream().noneMatch(sql -> sql.toLowerCase(Locale.ROOT).contains("from category")),
+                () -> String.join("\n", capturedQueries.queries()));
+    }
+
+    @Test
+    void createAfterDeleteShouldRejectCategoryInsteadOfViolatingForeignKey() {
+        categoryService.list(userId);
+        categoryService.delete(userId, categoryId);
+
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> createTransaction());
+
+        assertEquals("Categoria nao pertence ao usuario.", exception.getMessage());
+    }
+
+    @Test
+    void writesShouldRejectCategoryDeletedBehindTheCache() {
+        assertEquals(List.of(new CategoryResponse(categoryId, "Mercado", "#000000")), categoryService.list(userId));
+        jdbcTemplate.update("DELETE FROM category WHERE id = ?", categoryId);
+
+        BadRequestException transaction = assertThrows(BadRequestException.class, () -> createTransaction());
+        BadRequestException budget = assertThrows(BadRequestException.class, () -> budgetService.create(userId,
+                new BudgetCreateRequest("2026-03", categoryId, new BigDecimal("100.00"))));
+
+        assertEquals("Categoria nao pertence ao usuario.", transaction.getMessage());
+        assertEquals("Categoria nao pertence ao usuario.", budget.getMessage());
+        assertEquals(List.of(), categoryService.list(userId));
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM finance_transaction WHERE user_id = ?", Long.class, userId));
+    }
+
+    private TransactionResponse createTransaction() {
+        return transactionService.create(userId, new TransactionCreateRequest(categoryId, TransactionType.EXPENSE,
+                "Feira", new BigDecimal("12.00"), LocalDate.of(2026, 3, 5)));
+    }
+}
@@ -3,13 +3,18 @@ package com.pocketfinance.backend.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pocketfinance.backend.api.dto.CsvImportResponse;
+import com.pocketfinance.backend.api.dto.TransactionResponse;
+import com.pocketfinance.backend.config.ResponseCacheProperties;
 import com.pocketfinance.backend.domain.model.Category;
 import com.pocketfinance.backend.domain.model.FinanceTransaction;
 import com.pocketfinance.backend.domain.model.TransactionType;
@@ -17,11 +22,20 @@ import com.pocketfinance.backend.domain.model.User;
 import com.pocketfinance.backend.domain.repository.FinanceTransactionRepository;
 import com.pocketfinance.backend.domain.repository.UserRepository;
 import com.pocketfinance.backend.exception.BadRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +43,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @ExtendWith(MockitoExtension.class)
 class CsvServiceTest {
@@ -41,14 +57,27 @@ class CsvServiceTest {
     private FinanceTransactionRepository transactionRepository;
     @Mock
     private TransactionService transactionService;
+    @Mock
+    private MonthlyRollupService rollupService;
+    @Mock
+    private DataVersionService dataVersionService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
+    private SimpleMeterRegistry meterRegistry;
     private CsvService csvService;
     private UUID userId;
     private User user;
 
     @BeforeEach
     void setUp() {
-        csvService = new CsvService(userRepository, categoryService, transactionRepository, transactionService);
+        meterRegistry = new SimpleMeterRegistry();
+        csvService = new CsvService(userRepository, categoryService,
+                new JpaTransactionBatchWriter(transactionRepository), transactionService, rollupService,
+                new MonthParser(), dataVersionService,
+                new ResponseCache(new ResponseCacheProperties(null, null, null), dataVersionService, new ObjectMapper(),
+                        transactionManager, meterRegistry),
+                transactionManager, meterRegistry);
         userId = UUID.randomUUID();
         user = new User();
         user.setId(userId);
@@ -62,7 +91,8 @@ class CsvServiceTest {
         category.setId(UUID.randomUUID());
         category.setName("Alimentacao");
         category.setColor("#33CCAA");
-        when(categoryService.findOrCreateByName(eq(userId), eq("Alimentacao"), anyString())).thenReturn(category);
+        when(categoryService.mapByLowerName(userId)).thenReturn(new HashMap<>(Map.of("alimentacao", category)));
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         MockMultipartFile file = new MockMultipartFile(
                 "file",
@@ -78,6 +108,7 @@ class CsvServiceTest {
 
         assertEquals(1, response.imported());
         assertEquals(0, response.skipped());
+        assertEquals("jpa", response.engine());
 
         @SuppressWarnings("unchecked")
         ArgumentCaptor<List<FinanceTransaction>> captor = ArgumentCaptor.forClass(List.class);
@@ -90,6 +121,7 @@ class CsvServiceTest {
         assertEquals("Supermercado", saved.getDescription());
         assertEquals(new BigDecimal("123.45"), saved.getAmount());
         assertEquals(LocalDate.of(2026, 2, 26), saved.getDate());
+        verify(categoryService, never()).createMissing(any(), anyMap());
     }
 
     @Test
@@ -110,4 +142,104 @@ class CsvServiceTest {
         assertEquals("CSV invalido. Cabecalho obrigatorio ausente: category", exception.getMessage());
         verify(transactionRepository, never()).saveAll(anyList());
     }
+
+    @Test
+    void importSimpleCsvShouldSaveInChunksAndSkipInvalidRows() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        Category category = new Category();
+        category.setId(UUID.randomUUID());
+        category.setName("Mercado");
+        when(categoryService.mapByLowerName(userId)).thenReturn(new HashMap<>());
+        when(categoryService.createMissing(eq(userId), anyMap())).thenReturn(List.of(category));
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        StringBuilder csv = new StringBuilder("date,description,amount,type,category\n");
+        for (int i = 0; i < 1001; i++) {
+            csv.append("2026-02-26,Compra ").append(i).append(",10.00,EXPENSE,Mercado\n");
+        }
+        csv.append("2026-02-26,Estorno,-5.00,EXPENSE,Mercado\n");
+        csv.append("2026-02-30,Data invalida,5.00,EXPENSE,Mercado\n");
+        MockMultipartFile file = new MockMultipartFile("file", "big.csv", "text/csv",
+                csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        CsvImportResponse response = csvService.importSimpleCsv(userId, file);
+
+        assertEquals(1001, response.imported());
+        assertEquals(2, response.skipped());
+        assertEquals(1001.0, meterRegistry.get("csv.import.rows").summary().totalAmount());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FinanceTransaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository, times(3)).saveAll(captor.capture());
+        verify(rollupService, times(3)).recordAll(anyList());
+        assertEquals(List.of(500, 500, 1), captor.getAllValues().stream().map(List::size).toList());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> namesCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(categoryService, times(1)).createMissing(eq(userId), namesCaptor.capture());
+        assertEquals(Set.of("Mercado"), namesCaptor.getValue().keySet());
+    }
+
+    @Test
+    void importSimpleCsvShouldSkipRowsWhoseCategoryCannotBeResolved() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        Category category = new Category();
+        category.setId(UUID.randomUUID());
+        category.setName("Mercado");
+        when(categoryService.mapByLowerName(userId)).thenReturn(new HashMap<>(Map.of("mercado", category)));
+        when(categoryService.createMissing(eq(userId), anyMap())).thenReturn(List.of());
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MockMultipartFile file = new MockMultipartFile("file", "mixed.csv", "text/csv", """
+                date,description,amount,type,category
+                2026-02-26,Feira,10.00,EXPENSE,Mercado
+                2026-02-27,Desconhecida,5.00,EXPENSE,Sem Cadastro
+                2026-02-28,Padaria,7.00,income,MERCADO
+                """.getBytes(StandardCharsets.UTF_8));
+
+        CsvImportResponse response = csvService.importSimpleCsv(userId, file);
+
+        assertEquals(2, response.imported());
+        assertEquals(1, response.skipped());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FinanceTransaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).saveAll(captor.capture());
+        assertEquals(List.of("Feira", "Padaria"),
+                captor.getValue().stream().map(FinanceTransaction::getDescription).toList());
+    }
+
+    @Test
+    void exportCsvShouldStreamRowsIntoOutput() throws IOException {
+        UUID categoryId = UUID.randomUUID();
+        TransactionResponse row = new TransactionResponse(
+                UUID.randomUUID(),
+                categoryId,
+                "Alimentacao",
+                TransactionType.EXPENSE,
+                "Supermercado, bairro",
+                new BigDecimal("123.45"),
+                LocalDate.of(2026, 2, 26),
+                Instant.parse("2026-02-26T10:00:00Z"),
+                Instant.parse("2026-02-26T10:00:00Z")
+        );
+        when(transactionService.streamForExport(userId, "2026-02", categoryId)).thenReturn(Stream.of(row));
+
+        StreamingResponseBody body = csvService.exportCsv(userId, "2026-02", categoryId);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+
+        assertEquals("date,description,amount,type,category\r\n"
+                        + "2026-02-26,\"Supermercado, bairro\",123.45,EXPENSE,Alimentacao\r\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+        assertEquals(1.0, meterRegistry.get("csv.export.rows").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("csv.export.stream").timer().count());
+    }
+
+    @Test
+    void exportCsvShouldRejectInvalidMonthBeforeStreaming() {
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> csvService.exportCsv(userId, "02-2026", null));
+        assertEquals("month deve estar no formato yyyy-MM", exception.getMessage());
+        verify(transactionService, never()).streamForExport(userId, "02-2026", null);
+    }
 }
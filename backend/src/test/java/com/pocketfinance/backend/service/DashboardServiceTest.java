@@ -0,0 +1,153 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+import com.pocketfinance.backend.api.dto.DashboardCategoryResponse;
+import com.pocketfinance.backend.api.dto.DashboardSummaryResponse;
+import com.pocketfinance.backend.domain.model.Budget;
+import com.pocketfinance.backend.domain.model.Category;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.domain.repository.BudgetRepository;
+import com.pocketfinance.backend.domain.repository.FinanceTransactionRepository;
+import com.pocketfinance.backend.domain.repository.MonthlyCategoryTotalRepository;
+import com.pocketfinance.backend.domain.repository.projection.CategoryTotalView;
+import com.pocketfinance.backend.domain.repository.projection.TypeTotalView;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 2, 1);
+    private static final LocalDate END = LocalDate.of(2026, 2, 28);
+
+    @Mock
+    private FinanceTransactionRepository transactionRepository;
+    @Mock
+    private MonthlyCategoryTotalRepository totalRepository;
+    @Mock
+    private BudgetRepository budgetRepository;
+    private DashboardService dashboardService;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new DashboardService(transactionRepository, totalRepository, budgetRepository, new MonthParser());
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void summaryShouldMergeTotalsCategorySpendingAndBudgets() {
+        UUID foodId = UUID.randomUUID();
+        UUID housingId = UUID.randomUUID();
+
+        when(totalRepository.sumByType(userId, START)).thenReturn(List.of(
+                typeTotal(TransactionType.INCOME, "5000.00"),
+                typeTotal(TransactionType.EXPENSE, "1300.00")
+        ));
+        when(totalRepository.findCategoryTotals(userId, TransactionType.EXPENSE, START)).thenReturn(List.of(
+                categoryTotal(foodId, "Alimentacao", "1300.00")
+        ));
+        when(budgetRepository.findByUserIdAndMonthRefOrderByCategoryNameAsc(userId, START)).thenReturn(List.of(
+                budget(foodId, "Alimentacao", "1000.00"),
+                budget(housingId, "Moradia", "1500.00")
+        ));
+        when(transactionRepository.findTop5ByUserIdAndDateBetweenOrderByDateDescCreatedAtDesc(userId, START, END))
+                .thenReturn(List.of());
+
+        DashboardSummaryResponse response = dashboardService.summary(userId, "2026-02");
+
+        assertEquals(START, response.month());
+        assertEquals(new BigDecimal("5000.00"), response.income());
+        assertEquals(new BigDecimal("1300.00"), response.expense());
+        assertEquals(new BigDecimal("3700.00"), response.balance());
+
+        List<DashboardCategoryResponse> categories = response.categories();
+        assertEquals(2, categories.size());
+        assertEquals(foodId, categories.get(0).categoryId());
+        assertEquals(new BigDecimal("1300.00"), categories.get(0).spent());
+        assertEquals(new BigDecimal("1000.00"), categories.get(0).budget());
+        assertEquals(housingId, categories.get(1).categoryId());
+        assertEquals(BigDecimal.ZERO, categories.get(1).spent());
+        assertEquals(new BigDecimal("1500.00"), categories.get(1).budget());
+    }
+
+    @Test
+    void summaryShouldReturnZeroTotalsWhenMonthHasNoData() {
+        when(totalRepository.sumByType(userId, START)).thenReturn(List.of());
+        when(totalRepository.findCategoryTotals(userId, TransactionType.EXPENSE, START)).thenReturn(List.of(
+                categoryTotal(UUID.randomUUID(), "Lazer", "0.00")
+        ));
+        when(budgetRepository.findByUserIdAndMonthRefOrderByCategoryNameAsc(userId, START)).thenReturn(List.of());
+        when(transactionRepository.findTop5ByUserIdAndDateBetweenOrderByDateDescCreatedAtDesc(userId, START, END))
+                .thenReturn(List.of());
+
+        DashboardSummaryResponse response = dashboardService.summary(userId, "2026-02");
+
+        assertEquals(BigDecimal.ZERO, response.income());
+        assertEquals(BigDecimal.ZERO, response.expense());
+        assertEquals(BigDecimal.ZERO, response.balance());
+        assertNull(response.categories().getFirst().budget());
+    }
+
+    private TypeTotalView typeTotal(TransactionType type, String total) {
+        return new TypeTotalView() {
+            @Override
+            public TransactionType getType() {
+                return type;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(total);
+            }
+        };
+    }
+
+    private CategoryTotalView categoryTotal(UUID categoryId, String name, String total) {
+        return new CategoryTotalView() {
+            @Override
+            public UUID getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public String getCategoryName() {
+                return name;
+            }
+
+            @Override
+            public String getCategoryColor() {
+                return "#112233";
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(total);
+            }
+        };
+    }
+
+    private Budget budget(UUID categoryId, String categoryName, String amount) {
+        Category category = new Category();
+        category.setId(categoryId);
+        category.setName(categoryName);
+        category.setColor("#112233");
+
+        Budget budget = new Budget();
+        budget.setId(UUID.randomUUID());
+        budget.setCategory(category);
+        budget.setMonthRef(START);
+        budget.setAmount(new BigDecimal(amount));
+        return budget;
+    }
+}
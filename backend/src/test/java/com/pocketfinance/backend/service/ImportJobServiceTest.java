@@ -0,0 +1,231 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.pocketfinance.backend.api.dto.CsvImportResponse;
+import com.pocketfinance.backend.api.dto.ImportJobResponse;
+import com.pocketfinance.backend.config.ImportProperties;
+import com.pocketfinance.backend.domain.model.ImportJobRecord;
+import com.pocketfinance.backend.domain.model.ImportJobStatus;
+import com.pocketfinance.backend.domain.repository.ImportJobRecordRepository;
+import com.pocketfinance.backend.exception.BadRequestException;
+import com.pocketfinance.backend.exception.NotFoundException;
+import com.pocketfinance.backend.exception.TooManyRequestsException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class ImportJobServiceTest {
+
+    @Mock
+    private CsvService csvService;
+    @Mock
+    private ImportJobRecordRepository records;
+
+    private ImportJobService importJobService;
+    private UUID userId;
+    private MockMultipartFile file;
+
+    @BeforeEach
+    void setUp() {
+        importJobService = new ImportJobService(csvService, records,
+                new ImportProperties(ImportProperties.Engine.JPA, 1, 1, Duration.ofHours(1)));
+        userId = UUID.randomUUID();
+        file = new MockMultipartFile("file", "transactions.csv", "text/csv",
+                "date,description,amount,type,category\n2026-02-26,Mercado,10.00,EXPENSE,Casa\n"
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        importJobService.shutdown();
+    }
+
+    @Test
+    void submitShouldRunImportInBackgroundAndReportProgress() throws Exception {
+        when(csvService.importEngine()).thenReturn("jpa");
+        when(csvService.importCsv(eq(userId), any(InputStream.class), any(ImportProgress.class))).thenAnswer(invocation -> {
+            ImportProgress progress = invocation.getArgument(2);
+            progress.rowParsed();
+            progress.rowSkipped();
+            progress.rowsImported(1);
+            return new CsvImportResponse(1, 1, "jpa", 1, 1000);
+        });
+
+        ImportJobResponse submitted = importJobService.submit(userId, file);
+        ImportJobResponse job = awaitFinished(submitted.id());
+
+        assertEquals(ImportJobStatus.COMPLETED, job.status());
+        assertEquals(2, job.parsed());
+        assertEquals(1, job.imported());
+        assertEquals(1, job.skipped());
+        assertEquals("jpa", job.engine());
+        assertNull(job.error());
+    }
+
+    @Test
+    void submitShouldRecordFailure() throws Exception {
+        when(csvService.importEngine()).thenReturn("jpa");
+        when(csvService.importCsv(eq(userId), any(InputStream.class), any(ImportProgress.class)))
+                .thenThrow(new BadRequestException("CSV invalido. Cabecalho obrigatorio ausente: category"));
+
+        ImportJobResponse job = awaitFinished(importJobService.submit(userId, file).id());
+
+        assertEquals(ImportJobStatus.FAILED, job.status());
+        assertEquals("CSV invalido. Cabecalho obrigatorio ausente: category", job.error());
+    }
+
+    @Test
+    void submitShouldSaveEveryStateChange() throws Exception {
+        when(csvService.importEngine()).thenReturn("jpa");
+        when(csvService.importCsv(eq(userId), any(InputStream.class), any(ImportProgress.class))).thenAnswer(invocation -> {
+            ImportProgress progress = invocation.getArgument(2);
+            progress.rowParsed();
+            progress.rowsImported(1);
+            return new CsvImportResponse(1, 0, "jpa", 1, 1000);
+        });
+
+        UUID jobId = importJobService.submit(userId, file).id();
+        awaitFinished(jobId);
+
+        verify(records).save(argThat(record -> record.getId().equals(jobId)
+                && record.getStatus() == ImportJobStatus.QUEUED));
+        verify(records).save(argThat(record -> record.getStatus() == ImportJobStatus.RUNNING));
+        verify(records, timeout(1000)).save(argThat(record -> record.getStatus() == ImportJobStatus.COMPLETED
+                && record.getImported() == 1 && record.getUserId().equals(userId)));
+    }
+
+    @Test
+    void getShouldReadJobsSubmittedToAnotherInstance() {
+        ImportJobRecord record = new ImportJobRecord();
+        record.setId(UUID.randomUUID());
+        record.setUserId(userId);
+        record.setStatus(ImportJobStatus.RUNNING);
+        record.setEngine("copy");
+        record.setParsed(120);
+        record.setImported(100);
+        record.setCreatedAt(Instant.now());
+        when(records.findByIdAndUserId(record.getId(), userId)).thenReturn(Optional.of(record));
+
+        ImportJobResponse job = importJobService.get(userId, record.getId());
+
+        assertEquals(ImportJobStatus.RUNNING, job.status());
+        assertEquals(120, job.parsed());
+        assertEquals(100, job.imported());
+        assertEquals("copy", job.engine());
+    }
+
+    @Test
+    void getShouldHideJobsOfOtherUsers() throws Exception {
+        when(csvService.importEngine()).thenReturn("jpa");
+        when(csvService.importCsv(eq(userId), any(InputStream.class), any(ImportProgress.class)))
+                .thenReturn(new CsvImportResponse(0, 0, "jpa", 1, 0));
+
+        UUID jobId = importJobService.submit(userId, file).id();
+        awaitFinished(jobId);
+
+        assertThrows(NotFoundException.class, () -> importJobService.get(UUID.randomUUID(), jobId));
+    }
+
+    @Test
+    void submitShouldRejectEmptyFile() {
+        MockMultipartFile empty = new MockMultipartFile("file", "empty.csv", "text/csv", new byte[0]);
+
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> importJobService.submit(userId, empty));
+        assertEquals("Arquivo CSV obrigatorio.", exception.getMessage());
+    }
+
+    @Test
+    void submitShouldRejectWhenRunningAndQueuedJobsFillTheBudget() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(csvService.importEngine()).thenReturn("jpa");
+        when(csvService.importCsv(eq(userId), any(InputStream.class), any(ImportProgress.class))).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return new CsvImportResponse(0, 0, "jpa", 1, 0);
+        });
+
+        UUID running = importJobService.submit(userId, file).id();
+        UUID queued = importJobService.submit(userId, file).id();
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> importJobService.submit(userId, file));
+        assertEquals("Muitas importacoes em andamento. Tente novamente em instantes.", exception.getMessage());
+
+        release.countDown();
+        assertEquals(ImportJobStatus.COMPLETED, awaitFinished(running).status());
+        assertEquals(ImportJobStatus.COMPLETED, awaitFinished(queued).status());
+    }
+
+    @Test
+    void submitShouldDeleteTemporaryFileWhenUploadCannotBeCopied() {
+        Path[] destination = new Path[1];
+        MockMultipartFile broken = new MockMultipartFile("file", "transactions.csv", "text/csv",
+                "date\n".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void transferTo(Path dest) throws IOException {
+                destination[0] = dest;
+                throw new IOException("disco cheio");
+            }
+        };
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> importJobService.submit(userId, broken));
+
+        assertEquals("Nao foi possivel ler o arquivo CSV.", exception.getMessage());
+        assertFalse(Files.exists(destination[0]));
+    }
+
+    @Test
+    void evictFinishedJobsShouldDropJobsPastRetention() throws Exception {
+        importJobService.shutdown();
+        importJobService = new ImportJobService(csvService, records,
+                new ImportProperties(ImportProperties.Engine.JPA, 1, 1, Duration.ZERO));
+        when(csvService.importEngine()).thenReturn("jpa");
+        when(csvService.importCsv(eq(userId), any(InputStream.class), any(ImportProgress.class)))
+                .thenReturn(new CsvImportResponse(0, 0, "jpa", 1, 0));
+
+        UUID jobId = importJobService.submit(userId, file).id();
+        awaitFinished(jobId);
+        Thread.sleep(5);
+        importJobService.evictFinishedJobs();
+
+        assertThrows(NotFoundException.class, () -> importJobService.get(userId, jobId));
+        verify(records).deleteFinishedBefore(any(Instant.class));
+    }
+
+    private ImportJobResponse awaitFinished(UUID jobId) throws InterruptedException {
+        for (int attempt = 0; attempt < 200; attempt++) {
+            ImportJobResponse job = importJobService.get(userId, jobId);
+            if (job.finishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Import job did not finish");
+    }
+}
@@ -0,0 +1,113 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.pocketfinance.backend.config.LoadTestProperties;
+import com.pocketfinance.backend.support.EmbeddedPostgresDatabase;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest
+class LoadTestDataGeneratorTest {
+
+    private static final String DOMAIN = "seed.loadtest.local";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MonthlyRollupService rollupService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteGenerated();
+    }
+
+    @Test
+    void sameSeedShouldGenerateIdenticalData() throws Exception {
+        generate(42L);
+        Map<String, List<Map<String, Object>>> first = snapshot();
+        deleteGenerated();
+
+        generate(42L);
+        Map<String, List<Map<String, Object>>> second = snapshot();
+
+        assertEquals(3, first.get("users").size());
+        assertEquals(3 * 300, first.get("transactions").size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void differentSeedShouldGenerateDifferentData() throws Exception {
+        generate(42L);
+        Map<String, List<Map<String, Object>>> first = snapshot();
+        deleteGenerated();
+
+        generate(43L);
+
+        assertNotEquals(first.get("transactions"), snapshot().get("transactions"));
+    }
+
+    @Test
+    void endMonthShouldDefaultToFixedMonthInsteadOfClock() {
+        LoadTestProperties properties = new LoadTestProperties(0, 0, 0, 0, null, 42L, 0, 0.6, null, null);
+
+        assertEquals(YearMonth.of(2026, 6), properties.endMonth());
+    }
+
+    private void generate(long seed) throws InterruptedException {
+        LoadTestProperties properties = new LoadTestProperties(3, 5, 300, 3, YearMonth.of(2026, 3), seed, 2, 0.6,
+                DOMAIN, null);
+        new LoadTestDataGenerator(properties, jdbcTemplate, transactionManager, rollupService, passwordEncoder)
+                .generate();
+    }
+
+    private Map<String, List<Map<String, Object>>> snapshot() {
+        String users = "SELECT id FROM app_user WHERE email LIKE '%@" + DOMAIN + "'";
+        return Map.of(
+                "users", jdbcTemplate.queryForList(
+                        "SELECT id, email, full_name, created_at, updated_at FROM app_user WHERE id IN (" + users + ") ORDER BY id"),
+                "categories", jdbcTemplate.queryForList(
+                        "SELECT id, user_id, name, color, created_at FROM category WHERE user_id IN (" + users + ") ORDER BY id"),
+                "transactions", jdbcTemplate.queryForList("""
+                        SELECT id, user_id, category_id, type, description, amount, date, created_at, updated_at
+                        FROM finance_transaction WHERE user_id IN (%s) ORDER BY id
+                        """.formatted(users)),
+                "budgets", jdbcTemplate.queryForList(
+                        "SELECT id, user_id, category_id, month_ref, amount FROM budget WHERE user_id IN (" + users + ") ORDER BY id"),
+                "rollups", jdbcTemplate.queryForList("""
+                        SELECT user_id, month_ref, category_id, type, total, tx_count FROM monthly_category_total
+                        WHERE user_id IN (%s) ORDER BY user_id, month_ref, category_id, type
+                        """.formatted(users)));
+    }
+
+    private void deleteGenerated() {
+        String users = "SELECT id FROM app_user WHERE email LIKE '%@" + DOMAIN + "'";
+        for (String table : List.of("budget", "finance_transaction", "monthly_category_total", "category")) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE user_id IN (" + users + ")");
+        }
+        jdbcTemplate.update("DELETE FROM app_user WHERE id IN (" + users + ")");
+    }
+}
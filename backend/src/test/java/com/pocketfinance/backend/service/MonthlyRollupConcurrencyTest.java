@@ -0,0 +1,111 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.pocketfinance.backend.api.dto.TransactionCreateRequest;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.support.EmbeddedPostgresDatabase;
+import com.pocketfinance.backend.support.TestUsers;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class MonthlyRollupConcurrencyTest {
+
+    @Autowired
+    private MonthlyRollupService rollupService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private UUID categoryId;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void seed() {
+        userId = TestUsers.insert(jdbcTemplate, "Rollup");
+        categoryId = jdbcTemplate.queryForObject(
+                "INSERT INTO category (user_id, name, color) VALUES (?, 'Mercado', '#000000') RETURNING id",
+                UUID.class, userId);
+        jdbcTemplate.update("""
+                INSERT INTO finance_transaction (user_id, category_id, type, description, amount, date, created_at, updated_at)
+                SELECT ?, ?, 'EXPENSE', 'Compra ' || g, 10.00, DATE '2026-01-01' + g, now(), now()
+                FROM generate_series(0, 9) g
+                """, userId, categoryId);
+        rollupService.rebuild(userId);
+    }
+
+    @Test
+    void deltaWrittenDuringRebuildShouldWaitAndBeCountedOnce() throws Exception {
+        CountDownLatch rebuilt = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> {
+                    rollupService.rebuild(userId);
+                    rebuilt.countDown();
+                    await(release);
+                }));
+        await(rebuilt);
+
+        CompletableFuture<Void> write = CompletableFuture.runAsync(() -> transactionService.create(userId,
+                new TransactionCreateRequest(categoryId, TransactionType.EXPENSE, "Durante rebuild",
+                        new BigDecimal("7.50"), LocalDate.of(2026, 3, 5))));
+        Thread.sleep(500);
+        assertFalse(write.isDone(), "delta write should wait for the rebuild to commit");
+
+        release.countDown();
+        rebuild.get(10, TimeUnit.SECONDS);
+        write.get(10, TimeUnit.SECONDS);
+
+        List<Map<String, Object>> maintained = rollups();
+        assertEquals(2, maintained.size());
+        rollupService.rebuild(userId);
+        assertEquals(rollups(), maintained);
+    }
+
+    private List<Map<String, Object>> rollups() {
+        return jdbcTemplate.queryForList("""
+                SELECT month_ref, category_id, type, total, tx_count FROM monthly_category_total
+                WHERE user_id = ? AND (tx_count <> 0 OR total <> 0)
+                ORDER BY month_ref, category_id, type
+                """, userId);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for latch");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import com.pocketfinance.backend.domain.model.Category;
+import com.pocketfinance.backend.domain.model.FinanceTransaction;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.domain.model.User;
+import com.pocketfinance.backend.domain.repository.MonthlyCategoryDelta;
+import com.pocketfinance.backend.domain.repository.MonthlyCategoryTotalRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MonthlyRollupServiceTest {
+
+    @Mock
+    private MonthlyCategoryTotalRepository totalRepository;
+
+    private MonthlyRollupService rollupService;
+    private User user;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        rollupService = new MonthlyRollupService(totalRepository);
+        user = new User();
+        user.setId(UUID.randomUUID());
+        category = new Category();
+        category.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void recordAllShouldMergeRowsIntoOneDeltaPerMonthCategoryAndType() {
+        rollupService.recordAll(List.of(
+                transaction("10.00", LocalDate.of(2026, 2, 3)),
+                transaction("15.50", LocalDate.of(2026, 2, 20)),
+                transaction("7.00", LocalDate.of(2026, 3, 1))
+        ));
+
+        List<MonthlyCategoryDelta> deltas = capturedDeltas();
+        assertEquals(2, deltas.size());
+        assertEquals(LocalDate.of(2026, 2, 1), deltas.get(0).monthRef());
+        assertEquals(new BigDecimal("25.50"), deltas.get(0).amount());
+        assertEquals(2, deltas.get(0).count());
+        assertEquals(LocalDate.of(2026, 3, 1), deltas.get(1).monthRef());
+        assertEquals(1, deltas.get(1).count());
+    }
+
+    @Test
+    void applyShouldDropDeltasThatCancelOut() {
+        FinanceTransaction transaction = transaction("42.00", LocalDate.of(2026, 2, 10));
+        MonthlyCategoryDelta previous = rollupService.removed(transaction);
+        transaction.setDescription("Renomeada");
+
+        rollupService.apply(previous, rollupService.added(transaction));
+
+        assertTrue(capturedDeltas().isEmpty());
+    }
+
+    @Test
+    void applyShouldMoveAmountBetweenMonthsOnUpdate() {
+        FinanceTransaction transaction = transaction("42.00", LocalDate.of(2026, 2, 10));
+        MonthlyCategoryDelta previous = rollupService.removed(transaction);
+        transaction.setDate(LocalDate.of(2026, 3, 2));
+
+        rollupService.apply(previous, rollupService.added(transaction));
+
+        List<MonthlyCategoryDelta> deltas = capturedDeltas();
+        assertEquals(2, deltas.size());
+        assertEquals(new BigDecimal("-42.00"), deltas.get(0).amount());
+        assertEquals(-1, deltas.get(0).count());
+        assertEquals(LocalDate.of(2026, 3, 1), deltas.get(1).monthRef());
+        assertEquals(new BigDecimal("42.00"), deltas.get(1).amount());
+    }
+
+    private List<MonthlyCategoryDelta> capturedDeltas() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<MonthlyCategoryDelta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(totalRepository).applyDeltas(captor.capture());
+        return new ArrayList<>(captor.getValue());
+    }
+
+    private FinanceTransaction transaction(String amount, LocalDate date) {
+        FinanceTransaction transaction = new FinanceTransaction();
+        transaction.setUser(user);
+        transaction.setCategory(category);
+        transaction.setType(TransactionType.EXPENSE);
+        transaction.setDescription("Mercado");
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setDate(date);
+        return transaction;
+    }
+}
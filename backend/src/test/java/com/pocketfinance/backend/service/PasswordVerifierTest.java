@@ -0,0 +1,102 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pocketfinance.backend.config.PasswordHashingProperties;
+import com.pocketfinance.backend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordVerifierTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordVerifier verifier;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        verifier.shutdown();
+    }
+
+    @Test
+    void matchesShouldDelegateToEncoderAndRecordTimings() {
+        verifier = new PasswordVerifier(new PlainEncoder(), new PasswordHashingProperties(1, 1, Duration.ofSeconds(1)), meterRegistry);
+
+        assertTrue(verifier.matches("demo123", "demo123"));
+        assertFalse(verifier.matches("demo123", "outra"));
+        assertEquals(2, meterRegistry.get("auth.password.hash").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.wait").timer().count());
+    }
+
+    @Test
+    void matchesShouldFailFastWhenQueueIsFull() throws Exception {
+        verifier = new PasswordVerifier(new BlockingEncoder(), new PasswordHashingProperties(1, 1, Duration.ofSeconds(5)), meterRegistry);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> verifier.matches("a", "a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> verifier.matches("b", "b"));
+        awaitQueueDepth(1);
+
+        assertThrows(TooManyRequestsException.class, () -> verifier.matches("c", "c"));
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void matchesShouldGiveUpAfterMaxWait() throws Exception {
+        verifier = new PasswordVerifier(new BlockingEncoder(), new PasswordHashingProperties(1, 4, Duration.ofMillis(50)), meterRegistry);
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, () -> verifier.matches("a", "a"));
+        assertEquals("Muitas tentativas de login simultaneas. Tente novamente em instantes.", exception.getMessage());
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+    }
+
+    private void awaitQueueDepth(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.queue.depth").gauge().value() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, meterRegistry.get("auth.password.queue.depth").gauge().value());
+    }
+
+    private static class PlainEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+
+    private class BlockingEncoder extends PlainEncoder {
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return super.matches(rawPassword, encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pocketfinance.backend.domain.model.Category;
+import com.pocketfinance.backend.domain.model.FinanceTransaction;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.domain.model.User;
+import com.pocketfinance.backend.support.EmbeddedPostgresDatabase;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class PgCopyTransactionBatchWriterTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PgCopyTransactionBatchWriter writer;
+    private UUID userId;
+    private UUID categoryId;
+    private UUID foreignCategoryId;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void seed() {
+        writer = new PgCopyTransactionBatchWriter(jdbcTemplate);
+        userId = insertUser("copy");
+        categoryId = insertCategory(userId);
+        foreignCategoryId = insertCategory(insertUser("other"));
+    }
+
+    @Test
+    void writeShouldMergeStagedRowsWithUtcTimestampsAndReportMergedCount() {
+        List<FinanceTransaction> chunk = List.of(
+                transaction(categoryId, TransactionType.EXPENSE, "Mercado, feira", "10.50", LocalDate.of(2026, 1, 5)),
+                transaction(categoryId, TransactionType.INCOME, "Salario \"janeiro\"", "3500.00", LocalDate.of(2026, 1, 31)),
+                transaction(foreignCategoryId, TransactionType.EXPENSE, "Outro usuario", "1.00", LocalDate.of(2026, 1, 6)));
+        LocalDateTime before = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS);
+
+        int written = new TransactionTemplate(transactionManager).execute(status -> writer.write(chunk));
+
+        LocalDateTime after = LocalDateTime.now(ZoneOffset.UTC).plusSeconds(1);
+        assertEquals(2, written);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT category_id, type, description, amount, date, created_at, updated_at
+                FROM finance_transaction WHERE user_id = ? ORDER BY date
+                """, userId);
+        assertEquals(2, rows.size());
+        assertRow(rows.get(0), "EXPENSE", "Mercado, feira", "10.50", LocalDate.of(2026, 1, 5));
+        assertRow(rows.get(1), "INCOME", "Salario \"janeiro\"", "3500.00", LocalDate.of(2026, 1, 31));
+        for (Map<String, Object> row : rows) {
+            LocalDateTime createdAt = ((Timestamp) row.get("created_at")).toLocalDateTime();
+            assertEquals(createdAt, ((Timestamp) row.get("updated_at")).toLocalDateTime());
+            assertFalse(createdAt.isBefore(before), "created_at " + createdAt + " before " + before);
+            assertTrue(createdAt.isBefore(after), "created_at " + createdAt + " after " + after);
+        }
+    }
+
+    private void assertRow(Map<String, Object> row, String type, String description, String amount, LocalDate date) {
+        assertEquals(categoryId, row.get("category_id"));
+        assertEquals(type, row.get("type"));
+        assertEquals(description, row.get("description"));
+        assertEquals(new BigDecimal(amount), row.get("amount"));
+        assertEquals(Date.valueOf(date), row.get("date"));
+    }
+
+    private FinanceTransaction transaction(UUID category, TransactionType type, String description, String amount,
+                                           LocalDate date) {
+        User user = new User();
+        user.setId(userId);
+        Category reference = new Category();
+        reference.setId(category);
+
+        FinanceTransaction transaction = new FinanceTransaction();
+        transaction.setUser(user);
+        transaction.setCategory(reference);
+        transaction.setType(type);
+        transaction.setDescription(description);
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setDate(date);
+        return transaction;
+    }
+
+    private UUID insertUser(String prefix) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO app_user (email, password_hash, full_name) VALUES (?, 'x', 'Copy') RETURNING id",
+                UUID.class, prefix + "-" + UUID.randomUUID() + "@pocket.local");
+    }
+
+    private UUID insertCategory(UUID owner) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO category (user_id, name, color) VALUES (?, 'Mercado', '#000000') RETURNING id",
+                UUID.class, owner);
+    }
+}
@@ -0,0 +1,141 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.pocketfinance.backend.api.dto.TrendResponse;
+import com.pocketfinance.backend.api.dto.TrendSeriesResponse;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.domain.model.TrendGroupBy;
+import com.pocketfinance.backend.domain.repository.MonthlyCategoryTotalRepository;
+import com.pocketfinance.backend.domain.repository.projection.TrendTotalView;
+import com.pocketfinance.backend.exception.BadRequestException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReportServiceTest {
+
+    @Mock
+    private MonthlyCategoryTotalRepository totalRepository;
+
+    private ReportService reportService;
+    private UUID userId;
+    private UUID foodId;
+    private UUID housingId;
+
+    @BeforeEach
+    void setUp() {
+        reportService = new ReportService(totalRepository, new MonthParser());
+        userId = UUID.randomUUID();
+        foodId = UUID.randomUUID();
+        housingId = UUID.randomUUID();
+    }
+
+    @Test
+    void trendShouldReadWholeRangeInOneQueryAndMergeSeriesByCategory() {
+        when(totalRepository.findTrendTotals(userId, LocalDate.of(2025, 1, 1), LocalDate.of(2026, 2, 1))).thenReturn(List.of(
+                total(LocalDate.of(2025, 1, 1), foodId, "Alimentacao", TransactionType.EXPENSE, "100.00"),
+                total(LocalDate.of(2025, 1, 1), foodId, "Alimentacao", TransactionType.INCOME, "999.00"),
+                total(LocalDate.of(2025, 12, 1), housingId, "Moradia", TransactionType.EXPENSE, "1500.00"),
+                total(LocalDate.of(2026, 2, 1), foodId, "Alimentacao", TransactionType.EXPENSE, "80.00")
+        ));
+
+        TrendResponse response = reportService.trend(userId, "2025-01", "2026-02", "category", null);
+
+        assertEquals(TrendGroupBy.CATEGORY, response.groupBy());
+        assertEquals(TransactionType.EXPENSE, response.type());
+        assertEquals(14, response.months().size());
+        assertEquals(2, response.series().size());
+
+        TrendSeriesResponse housing = response.series().get(0);
+        assertEquals("Moradia", housing.label());
+        assertEquals(new BigDecimal("1500.00"), housing.totals().get(11));
+
+        TrendSeriesResponse food = response.series().get(1);
+        assertEquals(foodId.toString(), food.key());
+        assertEquals(new BigDecimal("100.00"), food.totals().get(0));
+        assertEquals(BigDecimal.ZERO, food.totals().get(1));
+        assertEquals(new BigDecimal("80.00"), food.totals().get(13));
+        verify(totalRepository).findTrendTotals(userId, LocalDate.of(2025, 1, 1), LocalDate.of(2026, 2, 1));
+        verifyNoMoreInteractions(totalRepository);
+    }
+
+    @Test
+    void trendShouldGroupByType() {
+        LocalDate february = LocalDate.of(2026, 2, 1);
+        when(totalRepository.findTrendTotals(userId, LocalDate.of(2026, 1, 1), february)).thenReturn(List.of(
+                total(february, foodId, "Alimentacao", TransactionType.EXPENSE, "100.00"),
+                total(february, housingId, "Moradia", TransactionType.EXPENSE, "50.00"),
+                total(february, foodId, "Alimentacao", TransactionType.INCOME, "300.00")
+        ));
+
+        TrendResponse response = reportService.trend(userId, "2026-01", "2026-02", "TYPE", TransactionType.INCOME);
+
+        assertNull(response.type());
+        assertEquals(List.of("INCOME", "EXPENSE"), response.series().stream().map(TrendSeriesResponse::key).toList());
+        assertEquals(List.of(BigDecimal.ZERO, new BigDecimal("300.00")), response.series().get(0).totals());
+        assertEquals(List.of(BigDecimal.ZERO, new BigDecimal("150.00")), response.series().get(1).totals());
+        verify(totalRepository).findTrendTotals(userId, LocalDate.of(2026, 1, 1), february);
+    }
+
+    @Test
+    void trendShouldRejectInvalidRangesAndGrouping() {
+        BadRequestException inverted = assertThrows(BadRequestException.class,
+                () -> reportService.trend(userId, "2026-03", "2026-01", "category", null));
+        assertEquals("from deve ser anterior ou igual a to.", inverted.getMessage());
+
+        BadRequestException tooLong = assertThrows(BadRequestException.class,
+                () -> reportService.trend(userId, "2020-01", "2026-01", "category", null));
+        assertEquals("Intervalo maximo de 60 meses.", tooLong.getMessage());
+
+        BadRequestException grouping = assertThrows(BadRequestException.class,
+                () -> reportService.trend(userId, "2026-01", "2026-02", "week", null));
+        assertEquals("groupBy deve ser category ou type.", grouping.getMessage());
+    }
+
+    private TrendTotalView total(LocalDate month, UUID categoryId, String categoryName, TransactionType type, String amount) {
+        return new TrendTotalView() {
+            @Override
+            public LocalDate getMonthRef() {
+                return month;
+            }
+
+            @Override
+            public UUID getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public String getCategoryName() {
+                return categoryName;
+            }
+
+            @Override
+            public String getCategoryColor() {
+                return "#112233";
+            }
+
+            @Override
+            public TransactionType getType() {
+                return type;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(amount);
+            }
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pocketfinance.backend.api.dto.CachedJson;
+import com.pocketfinance.backend.api.dto.PageResponse;
+import com.pocketfinance.backend.api.dto.TransactionCreateRequest;
+import com.pocketfinance.backend.api.dto.TransactionResponse;
+import com.pocketfinance.backend.domain.model.TransactionSearchMode;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.support.EmbeddedPostgresDatabase;
+import com.pocketfinance.backend.support.TestUsers;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest
+class ResponseCacheSnapshotTest {
+
+    private static final List<Object> PARAMETERS = Arrays.asList("2026-02", null, null, null,
+            TransactionSearchMode.CONTAINS, 0);
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private UUID categoryId;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void seed() {
+        userId = TestUsers.insert(jdbcTemplate, "Snapshot");
+        categoryId = jdbcTemplate.queryForObject(
+                "INSERT INTO category (user_id, name, color) VALUES (?, 'Mercado', '#000000') RETURNING id",
+                UUID.class, userId);
+        jdbcTemplate.update("""
+                INSERT INTO finance_transaction (user_id, category_id, type, description, amount, date, created_at, updated_at)
+                VALUES (?, ?, 'EXPENSE', 'Feira', 10.00, DATE '2026-02-03', now(), now())
+                """, userId, categoryId);
+    }
+
+    @Test
+    void writeCommittedBetweenVersionReadAndLoadShouldNotLeakIntoCachedVersion() throws IOException {
+        long before = dataVersion();
+
+        CachedJson<PageResponse<TransactionResponse>> raced = responseCache.json(userId, "transactions", PARAMETERS,
+                () -> {
+                    CompletableFuture.runAsync(() -> transactionService.create(userId, new TransactionCreateRequest(
+                            categoryId, TransactionType.EXPENSE, "Padaria", new BigDecimal("5.00"),
+                            LocalDate.of(2026, 2, 4)))).join();
+                    return list();
+                });
+
+        assertEquals(before + 1, dataVersion());
+        assertEquals(List.of("Feira"), descriptions(raced));
+        assertEquals(DataVersionService.etag(userId, before, "transactions", PARAMETERS), raced.etag());
+
+        CachedJson<PageResponse<TransactionResponse>> next = responseCache.json(userId, "transactions", PARAMETERS,
+                this::list);
+
+        assertEquals(List.of("Padaria", "Feira"), descriptions(next));
+        assertEquals(DataVersionService.etag(userId, before + 1, "transactions", PARAMETERS), next.etag());
+    }
+
+    private PageResponse<TransactionResponse> list() {
+        return transactionService.list(userId, "2026-02", null, null, null, TransactionSearchMode.CONTAINS, 0);
+    }
+
+    private List<String> descriptions(CachedJson<?> response) throws IOException {
+        JsonNode items = objectMapper.readTree(response.body()).get("items");
+        return items.findValuesAsText("description");
+    }
+
+    private long dataVersion() {
+        return jdbcTemplate.queryForObject("SELECT data_version FROM app_user WHERE id = ?", Long.class, userId);
+    }
+}
@@ -0,0 +1,162 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pocketfinance.backend.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseCacheTest {
+
+    @Mock
+    private DataVersionService dataVersionService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseCache responseCache;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        responseCache = new ResponseCache(new ResponseCacheProperties(DataSize.ofKilobytes(1), DataSize.ofBytes(64),
+                Duration.ofMinutes(1)), dataVersionService, new ObjectMapper(), transactionManager, meterRegistry);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void jsonShouldReuseSerializedBytesUntilDataVersionChanges() {
+        AtomicInteger loads = new AtomicInteger();
+        when(dataVersionService.current(userId)).thenReturn(4L, 4L, 4L, 5L);
+
+        byte[] first = responseCache.json(userId, "budgets", List.of("2026-02"), () -> load(loads)).body();
+        byte[] second = responseCache.json(userId, "budgets", List.of("2026-02"), () -> load(loads)).body();
+        byte[] otherMonth = responseCache.json(userId, "budgets", List.of("2026-03"), () -> load(loads)).body();
+        byte[] afterWrite = responseCache.json(userId, "budgets", List.of("2026-02"), () -> load(loads)).body();
+
+        assertEquals("[\"load-1\"]", new String(first, StandardCharsets.UTF_8));
+        assertArrayEquals(first, second);
+        assertEquals("[\"load-2\"]", new String(otherMonth, StandardCharsets.UTF_8));
+        assertEquals("[\"load-3\"]", new String(afterWrite, StandardCharsets.UTF_8));
+        assertEquals(3, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "responses").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals("bytes", meterRegistry.get("cache.weight").tag("cache", "responses").gauge()
+                .getId().getBaseUnit());
+    }
+
+    @Test
+    void jsonShouldKeyOnNormalizedParameters() {
+        AtomicInteger loads = new AtomicInteger();
+
+        responseCache.json(userId, "transactions", Arrays.asList("2026-02", "", null), () -> load(loads));
+        responseCache.json(userId, "transactions", Arrays.asList(" 2026-02 ", null, "  "), () -> load(loads));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void etagShouldMatchForEquivalentParametersAndDifferOtherwise() {
+        String etag = DataVersionService.etag(userId, 3L, "reports/trend", Arrays.asList("2026-01", "", "category"));
+
+        assertEquals(etag, DataVersionService.etag(userId, 3L, "reports/trend",
+                Arrays.asList(" 2026-01", null, "category ")));
+        assertNotEquals(etag, DataVersionService.etag(userId, 3L, "reports/trend",
+                Arrays.asList("2026-01", "category", null)));
+        assertNotEquals(DataVersionService.etag(userId, 3L, "transactions", Arrays.asList("a\nb", null)),
+                DataVersionService.etag(userId, 3L, "transactions", Arrays.asList("a", "b")));
+        assertTrue(etag.matches("W/\"3-[0-9a-f]{64}\""));
+    }
+
+    @Test
+    void jsonShouldNotKeepBodiesLargerThanEntryLimit() {
+        AtomicInteger loads = new AtomicInteger();
+        String large = "x".repeat(100);
+
+        responseCache.json(userId, "transactions", Arrays.asList("2026-02", null), () -> {
+            loads.incrementAndGet();
+            return large;
+        });
+        responseCache.json(userId, "transactions", Arrays.asList("2026-02", null), () -> {
+            loads.incrementAndGet();
+            return large;
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void streamShouldWriteThroughAndReplayCachedBytes() {
+        AtomicInteger writes = new AtomicInteger();
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        responseCache.stream(userId, "export/csv", Arrays.asList(null, null), first, output -> write(output, writes));
+        responseCache.stream(userId, "export/csv", Arrays.asList(null, null), second, output -> write(output, writes));
+
+        assertEquals("date,description\n2026-02-01,Mercado\n", first.toString(StandardCharsets.UTF_8));
+        assertArrayEquals(first.toByteArray(), second.toByteArray());
+        assertEquals(1, writes.get());
+    }
+
+    @Test
+    void streamShouldSkipCachingWhenOutputExceedsEntryLimit() {
+        AtomicInteger writes = new AtomicInteger();
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        byte[] large = "y".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+        responseCache.stream(userId, "export/csv", List.of("2026-02"), first, output -> {
+            writes.incrementAndGet();
+            writeBytes(output, large);
+        });
+        responseCache.stream(userId, "export/csv", List.of("2026-02"), second, output -> {
+            writes.incrementAndGet();
+            writeBytes(output, large);
+        });
+
+        assertArrayEquals(large, first.toByteArray());
+        assertArrayEquals(large, second.toByteArray());
+        assertEquals(2, writes.get());
+    }
+
+    private List<String> load(AtomicInteger loads) {
+        return List.of("load-" + loads.incrementAndGet());
+    }
+
+    private void write(OutputStream output, AtomicInteger writes) {
+        writes.incrementAndGet();
+        writeBytes(output, "date,description\n2026-02-01,Mercado\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeBytes(OutputStream output, byte[] bytes) {
+        try {
+            output.write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
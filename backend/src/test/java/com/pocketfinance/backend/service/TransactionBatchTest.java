@@ -0,0 +1,166 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pocketfinance.backend.api.dto.TransactionBatchItemResponse;
+import com.pocketfinance.backend.api.dto.TransactionBatchOperation;
+import com.pocketfinance.backend.api.dto.TransactionBatchRequest;
+import com.pocketfinance.backend.api.dto.TransactionBatchResponse;
+import com.pocketfinance.backend.domain.model.TransactionBatchAction;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.support.CaptureConfig;
+import com.pocketfinance.backend.support.CapturedQueries;
+import com.pocketfinance.backend.support.EmbeddedPostgresDatabase;
+import com.pocketfinance.backend.support.TestUsers;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest
+@Import(CaptureConfig.class)
+class TransactionBatchTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MonthlyRollupService rollupService;
+
+    @Autowired
+    private CapturedQueries capturedQueries;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private List<UUID> categoryIds;
+    private List<UUID> transactionIds;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void seed() {
+        userId = TestUsers.insert(jdbcTemplate, "Batch");
+        jdbcTemplate.update("""
+                INSERT INTO category (user_id, name, color)
+                SELECT ?, 'Categoria ' || g, '#000000' FROM generate_series(1, 3) g
+                """, userId);
+        categoryIds = jdbcTemplate.queryForList("SELECT id FROM category WHERE user_id = ? ORDER BY name", UUID.class,
+                userId);
+        jdbcTemplate.update("""
+                INSERT INTO finance_transaction (user_id, category_id, type, description, amount, date, created_at, updated_at)
+                SELECT ?, ?, 'EXPENSE', 'Extrato ' || g, 10 + g, DATE '2025-12-01' + g % 60, now(), now()
+                FROM generate_series(1, 300) g
+                """, userId, categoryIds.getFirst());
+        transactionIds = jdbcTemplate.queryForList(
+                "SELECT id FROM finance_transaction WHERE user_id = ? ORDER BY amount", UUID.class, userId);
+        rollupService.rebuild(userId);
+    }
+
+    @Test
+    void reconcilingFiveHundredItemsShouldUseHandfulOfStatements() {
+        List<TransactionBatchOperation> operations = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            operations.add(new TransactionBatchOperation(TransactionBatchAction.CREATE, null, categoryIds.get(i % 3),
+                    TransactionType.EXPENSE, "Conciliado " + i, new BigDecimal("15.50"), LocalDate.of(2026, 1, 1 + i % 28)));
+        }
+        for (int i = 0; i < 200; i++) {
+            operations.add(new TransactionBatchOperation(TransactionBatchAction.UPDATE, transactionIds.get(i),
+                    categoryIds.get(1), null, null, new BigDecimal("99.90"), i % 2 == 0 ? LocalDate.of(2026, 2, 10) : null));
+        }
+        for (int i = 200; i < 300; i++) {
+            operations.add(new TransactionBatchOperation(TransactionBatchAction.DELETE, transactionIds.get(i),
+                    null, null, null, null, null));
+        }
+        long versionBefore = dataVersion();
+
+        capturedQueries.clear();
+        TransactionBatchResponse response = transactionService.batch(userId, new TransactionBatchRequest(operations));
+        int executions = capturedQueries.executions();
+
+        assertEquals(500, response.applied());
+        assertEquals(0, response.failed());
+        assertTrue(executions <= 10, "statements executed: " + executions);
+        assertEquals(201, response.results().getFirst().status());
+        assertEquals(categoryIds.get(1), response.results().get(200).transaction().categoryId());
+        assertEquals(204, response.results().getLast().status());
+        assertEquals(400L, count("SELECT count(*) FROM finance_transaction WHERE user_id = ?"));
+        assertEquals(100L, count("SELECT count(*) FROM finance_transaction WHERE user_id = ? AND date = DATE '2026-02-10'"));
+        assertEquals(versionBefore + 1, dataVersion());
+        assertRollupsMatchRebuild();
+    }
+
+    @Test
+    void invalidItemsShouldBeReportedWithoutBlockingValidOnes() {
+        UUID foreignCategory = UUID.randomUUID();
+        List<TransactionBatchOperation> operations = List.of(
+                new TransactionBatchOperation(TransactionBatchAction.UPDATE, transactionIds.get(0), null, null,
+                        "Revisado", null, null),
+                new TransactionBatchOperation(TransactionBatchAction.DELETE, transactionIds.get(0), null, null, null,
+                        null, null),
+                new TransactionBatchOperation(TransactionBatchAction.DELETE, UUID.randomUUID(), null, null, null, null,
+                        null),
+                new TransactionBatchOperation(TransactionBatchAction.CREATE, null, foreignCategory,
+                        TransactionType.INCOME, "Salario", new BigDecimal("1000.00"), LocalDate.of(2026, 1, 5)),
+                new TransactionBatchOperation(TransactionBatchAction.CREATE, null, categoryIds.getFirst(), null,
+                        "Sem tipo", new BigDecimal("1.00"), LocalDate.of(2026, 1, 5)),
+                new TransactionBatchOperation(TransactionBatchAction.UPDATE, null, null, null, "Sem id", null, null),
+                new TransactionBatchOperation(TransactionBatchAction.UPDATE, transactionIds.get(1), null, null, "  ",
+                        null, null)
+        );
+
+        TransactionBatchResponse response = transactionService.batch(userId, new TransactionBatchRequest(operations));
+
+        assertEquals(1, response.applied());
+        assertEquals(6, response.failed());
+        assertEquals(List.of(200, 400, 404, 400, 400, 400, 400),
+                response.results().stream().map(TransactionBatchItemResponse::status).toList());
+        assertEquals("Revisado", response.results().getFirst().transaction().description());
+        assertNull(response.results().get(1).transaction());
+        assertEquals("Transacao repetida no lote.", response.results().get(1).message());
+        assertEquals("Categoria nao pertence ao usuario.", response.results().get(3).message());
+        assertEquals("description nao pode ficar em branco.", response.results().getLast().message());
+        assertEquals("Extrato 2", jdbcTemplate.queryForObject("SELECT description FROM finance_transaction WHERE id = ?",
+                String.class, transactionIds.get(1)));
+        assertEquals(300L, count("SELECT count(*) FROM finance_transaction WHERE user_id = ?"));
+        assertRollupsMatchRebuild();
+    }
+
+    private void assertRollupsMatchRebuild() {
+        List<Map<String, Object>> maintained = rollups();
+        rollupService.rebuild(userId);
+        assertEquals(rollups(), maintained);
+    }
+
+    private List<Map<String, Object>> rollups() {
+        return jdbcTemplate.queryForList("""
+                SELECT month_ref, category_id, type, total, tx_count FROM monthly_category_total
+                WHERE user_id = ? AND (tx_count <> 0 OR total <> 0)
+                ORDER BY month_ref, category_id, type
+                """, userId);
+    }
+
+    private long dataVersion() {
+        return count("SELECT data_version FROM app_user WHERE id = ?");
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class, userId);
+    }
+}
@@ -0,0 +1,34 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pocketfinance.backend.exception.BadRequestException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TransactionCursorTest {
+
+    @Test
+    void encodeShouldRoundTripThroughDecode() {
+        TransactionCursor cursor = new TransactionCursor(
+                LocalDate.of(2026, 2, 26),
+                Instant.parse("2026-02-26T10:15:30.123456Z"),
+                UUID.randomUUID()
+        );
+
+        String token = cursor.encode();
+
+        assertFalse(token.contains("="));
+        assertEquals(cursor, TransactionCursor.decode(token));
+    }
+
+    @Test
+    void decodeShouldRejectMalformedTokens() {
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> TransactionCursor.decode("nao-e-um-cursor"));
+        assertEquals("Cursor invalido.", exception.getMessage());
+    }
+}
@@ -0,0 +1,248 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pocketfinance.backend.domain.model.TransactionSearchMode;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.support.CaptureConfig;
+import com.pocketfinance.backend.support.CapturedQueries;
+import com.pocketfinance.backend.support.EmbeddedPostgresDatabase;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest
+@Import(CaptureConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionListPlanTest {
+
+    private static final String EMAIL = "plan@pocket.local";
+    private static final int PAGE_SIZE = 20;
+    private static final Pattern PARTITION = Pattern.compile("finance_transaction_(\\d{4}|default)\\b");
+    private static final Pattern SORT_NODE = Pattern.compile("(?m)(^|->)\\s*(Incremental )?Sort  \\(cost=\\S+ rows=(\\d+)");
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CsvService csvService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private CapturedQueries capturedQueries;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private UUID categoryId;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @BeforeAll
+    void seed() {
+        List<UUID> existing = jdbcTemplate.queryForList("SELECT id FROM app_user WHERE email = ?", UUID.class, EMAIL);
+        if (existing.isEmpty()) {
+            jdbcTemplate.queryForObject("SELECT ensure_finance_transaction_partitions(DATE '2025-01-01', DATE '2026-12-31')",
+                    Integer.class);
+            jdbcTemplate.update("""
+                    INSERT INTO app_user (email, password_hash, full_name)
+                    SELECT 'plan' || g || '@pocket.local', 'x', 'Plan ' || g FROM generate_series(1, 3) g
+                    UNION ALL SELECT ?, 'x', 'Plan'
+                    """, EMAIL);
+            jdbcTemplate.update("""
+                    INSERT INTO category (user_id, name, color)
+                    SELECT u.id, 'Categoria ' || g, '#000000' FROM app_user u CROSS JOIN generate_series(1, 6) g
+                    WHERE u.email LIKE 'plan%@pocket.local'
+                    """);
+            jdbcTemplate.update("""
+                    INSERT INTO finance_transaction (user_id, category_id, type, description, amount, date, created_at, updated_at)
+                    SELECT u.id,
+                           (SELECT c.id FROM category c WHERE c.user_id = u.id ORDER BY c.name OFFSET g % 6 LIMIT 1),
+                           CASE WHEN g % 5 = 0 THEN 'INCOME' ELSE 'EXPENSE' END,
+                           (ARRAY['Mercado Extra', 'Uber viagem', 'Padaria', 'Aluguel', 'Farmacia', 'Cinema'])[g % 6 + 1] || ' ' || g,
+                           1 + g % 300,
+                           DATE '2025-01-01' + g % 730,
+                           TIMESTAMP '2025-01-01' + g * INTERVAL '1 second',
+                           TIMESTAMP '2025-01-01' + g * INTERVAL '1 second'
+                    FROM app_user u CROSS JOIN generate_series(1, 30000) g
+                    WHERE u.email LIKE 'plan%@pocket.local'
+                    """);
+            jdbcTemplate.execute("VACUUM ANALYZE finance_transaction, category");
+        }
+        userId = jdbcTemplate.queryForObject("SELECT id FROM app_user WHERE email = ?", UUID.class, EMAIL);
+        categoryId = jdbcTemplate.queryForObject("SELECT id FROM category WHERE user_id = ? ORDER BY name LIMIT 1",
+                UUID.class, userId);
+    }
+
+    static Stream<Arguments> filters() {
+        List<Arguments> combinations = new ArrayList<>();
+        for (String month : new String[]{null, "2026-03"}) {
+            for (boolean category : new boolean[]{false, true}) {
+                for (TransactionType type : new TransactionType[]{null, TransactionType.EXPENSE}) {
+                    for (String q : new String[]{null, "mercado"}) {
+                        combinations.add(Arguments.of(month, category, type, q));
+                    }
+                }
+            }
+        }
+        return combinations.stream();
+    }
+
+    @ParameterizedTest(name = "month={0} category={1} type={2} q={3}")
+    @MethodSource("filters")
+    void firstPageShouldComeFromOrderedIndexScan(String month, boolean category, TransactionType type, String q) {
+        capturedQueries.clear();
+        transactionService.list(userId, month, category ? categoryId : null, type, q, TransactionSearchMode.CONTAINS, 0);
+
+        String plan = explain(listQuery());
+
+        assertNoSortBeyondOnePage(plan);
+        assertTrue(plan.contains("Index Scan") || plan.contains("Index Only Scan"), plan);
+        if (!category && type == null && q == null) {
+            assertTrue(plan.contains("Index Only Scan"), plan);
+        }
+        if (month != null) {
+            assertEquals(Set.of("finance_transaction_2026"), partitions(plan), plan);
+        }
+    }
+
+    @ParameterizedTest(name = "month={0} category={1} type={2} q={3}")
+    @MethodSource("filters")
+    void cursorPageShouldComeFromOrderedIndexScan(String month, boolean category, TransactionType type, String q) {
+        capturedQueries.clear();
+        transactionService.listAfter(userId, month, category ? categoryId : null, type, q,
+                TransactionSearchMode.CONTAINS, null);
+
+        assertNoSortBeyondOnePage(explain(listQuery()));
+    }
+
+    @ParameterizedTest(name = "mode={0}")
+    @EnumSource(TransactionSearchMode.class)
+    void selectiveSearchShouldUseDescriptionIndex(TransactionSearchMode mode) {
+        capturedQueries.clear();
+        transactionService.list(userId, null, null, null, "12345", mode, 0);
+
+        String plan = explain(listQuery());
+
+        String indexCondition = mode == TransactionSearchMode.RANKED
+                ? "Index Cond: (to_tsvector('simple'::regconfig, (description)::text) @@"
+                : "Index Cond: (lower((description)::text) ~~";
+        assertTrue(plan.contains("Bitmap Index Scan") && plan.contains(indexCondition), plan);
+        for (String populated : List.of("finance_transaction_2025", "finance_transaction_2026")) {
+            assertFalse(plan.contains("Seq Scan on " + populated + " "), plan);
+        }
+    }
+
+    @Test
+    void lookupByIdShouldReadOnlyThePartitionOfTheGivenDate() {
+        UUID id = jdbcTemplate.queryForObject(
+                "SELECT id FROM finance_transaction WHERE user_id = ? AND date >= DATE '2026-03-01' LIMIT 1",
+                UUID.class, userId);
+        LocalDate date = jdbcTemplate.queryForObject("SELECT date FROM finance_transaction WHERE id = ?",
+                LocalDate.class, id);
+
+        capturedQueries.clear();
+        transactionService.getById(userId, id, date);
+        assertEquals(Set.of("finance_transaction_2026"), partitions(explain(lookupQuery())));
+
+        capturedQueries.clear();
+        transactionService.getById(userId, id, null);
+        assertTrue(partitions(explain(lookupQuery())).containsAll(
+                Set.of("finance_transaction_2025", "finance_transaction_2026")));
+    }
+
+    @Test
+    void monthFilteredExportShouldReadOnlyThatYearsPartition() throws Exception {
+        capturedQueries.clear();
+        csvService.exportCsv(userId, "2026-03", null).writeTo(OutputStream.nullOutputStream());
+
+        assertEquals(Set.of("finance_transaction_2026"), partitions(explain(listQuery())));
+    }
+
+    @Test
+    void monthlyAggregatesShouldReadTheRollupOrOnlyThatYearsPartition() {
+        capturedQueries.clear();
+        dashboardService.summary(userId, "2026-03");
+        budgetService.status(userId, "2026-03");
+        reportService.trend(userId, "2026-01", "2026-03", "category", null);
+
+        List<String> queries = capturedQueries.queries();
+        assertTrue(queries.stream().anyMatch(sql -> sql.contains("monthly_category_total")), queries::toString);
+        for (String sql : queries) {
+            if (sql.contains("finance_transaction")) {
+                assertFalse(sql.contains("sum("), sql);
+                assertEquals(Set.of("finance_transaction_2026"), partitions(explain(sql)), sql);
+            }
+        }
+    }
+
+    private static void assertNoSortBeyondOnePage(String plan) {
+        Matcher sort = SORT_NODE.matcher(plan);
+        while (sort.find()) {
+            assertTrue(Long.parseLong(sort.group(3)) <= PAGE_SIZE, plan);
+        }
+    }
+
+    private static Set<String> partitions(String plan) {
+        Set<String> partitions = new TreeSet<>();
+        Matcher partition = PARTITION.matcher(plan);
+        while (partition.find()) {
+            partitions.add(partition.group());
+        }
+        return partitions;
+    }
+
+    private String listQuery() {
+        List<String> queries = capturedQueries.queries().stream()
+                .filter(sql -> sql.contains("finance_transaction") && sql.contains("order by"))
+                .toList();
+        assertEquals(1, queries.size(), queries::toString);
+        return queries.getFirst();
+    }
+
+    private String lookupQuery() {
+        List<String> queries = capturedQueries.queries().stream()
+                .filter(sql -> sql.contains("from finance_transaction"))
+                .toList();
+        assertEquals(1, queries.size(), queries::toString);
+        return queries.getFirst();
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -0,0 +1,180 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.pocketfinance.backend.api.dto.CursorPageResponse;
+import com.pocketfinance.backend.api.dto.PageResponse;
+import com.pocketfinance.backend.api.dto.TransactionResponse;
+import com.pocketfinance.backend.domain.model.TransactionSearchMode;
+import com.pocketfinance.backend.domain.model.TransactionType;
+import com.pocketfinance.backend.support.CaptureConfig;
+import com.pocketfinance.backend.support.CapturedQueries;
+import com.pocketfinance.backend.support.EmbeddedPostgresDatabase;
+import com.pocketfinance.backend.support.TestUsers;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@Import(CaptureConfig.class)
+class TransactionReadParityTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CapturedQueries capturedQueries;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private UUID categoryId;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void seed() {
+        userId = TestUsers.insert(jdbcTemplate, "Parity");
+        jdbcTemplate.update("""
+                INSERT INTO category (user_id, name, color) VALUES (?, 'Mercado', '#000000'), (?, 'Transporte', '#111111')
+                """, userId, userId);
+        categoryId = jdbcTemplate.queryForObject("SELECT id FROM category WHERE user_id = ? AND name = 'Mercado'",
+                UUID.class, userId);
+        jdbcTemplate.update("""
+                INSERT INTO finance_transaction (user_id, category_id, type, description, amount, date, created_at, updated_at)
+                SELECT ?,
+                       (SELECT c.id FROM category c WHERE c.user_id = ? ORDER BY c.name OFFSET g % 2 LIMIT 1),
+                       CASE WHEN g % 4 = 0 THEN 'INCOME' ELSE 'EXPENSE' END,
+                       (ARRAY['Mercado Extra', 'Uber viagem', 'Padaria'])[g % 3 + 1] || ' ' || g,
+                       1 + g,
+                       DATE '2026-02-20' + g % 20,
+                       TIMESTAMP '2026-02-01' + g * INTERVAL '1 minute',
+                       TIMESTAMP '2026-02-01' + g * INTERVAL '2 minute'
+                FROM generate_series(0, 44) g
+                """, userId, userId);
+    }
+
+    static Stream<Arguments> filters() {
+        List<Arguments> combinations = new ArrayList<>();
+        for (String month : new String[]{null, "2026-03"}) {
+            for (boolean category : new boolean[]{false, true}) {
+                for (TransactionType type : new TransactionType[]{null, TransactionType.EXPENSE}) {
+                    for (String q : new String[]{null, "MERCADO extra"}) {
+                        combinations.add(Arguments.of(month, category, type, q));
+                    }
+                }
+            }
+        }
+        return combinations.stream();
+    }
+
+    @ParameterizedTest(name = "month={0} category={1} type={2} q={3}")
+    @MethodSource("filters")
+    void listAndCursorPagesShouldMatchExportRows(String month, boolean byCategory, TransactionType type, String q) {
+        UUID category = byCategory ? categoryId : null;
+        List<TransactionResponse> expected = export(month, category).stream()
+                .filter(row -> type == null || row.type() == type)
+                .filter(row -> q == null || Arrays.stream(q.toLowerCase(Locale.ROOT).split("\\s+"))
+                        .allMatch(term -> row.description().toLowerCase(Locale.ROOT).contains(term)))
+                .toList();
+        assertFalse(expected.isEmpty());
+
+        assertEquals(expected, offsetPages(month, category, type, q));
+        assertEquals(expected, cursorPages(month, category, type, q));
+    }
+
+    @Test
+    void readsShouldIssueOneStatementPerPageAndHydrateNoEntities() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+
+            capturedQueries.clear();
+            PageResponse<TransactionResponse> first = transactionService.list(userId, null, null, null, null,
+                    TransactionSearchMode.CONTAINS, 0);
+            assertEquals(20, first.items().size());
+            assertEquals(2, capturedQueries.executions(), capturedQueries.queries()::toString);
+
+            capturedQueries.clear();
+            PageResponse<TransactionResponse> last = transactionService.list(userId, null, null, null, null,
+                    TransactionSearchMode.CONTAINS, 2);
+            assertEquals(5, last.items().size());
+            assertEquals(1, capturedQueries.executions(), capturedQueries.queries()::toString);
+
+            capturedQueries.clear();
+            CursorPageResponse<TransactionResponse> cursor = transactionService.listAfter(userId, null, null, null,
+                    null, TransactionSearchMode.CONTAINS, null);
+            assertEquals(20, cursor.items().size());
+            assertEquals(1, capturedQueries.executions(), capturedQueries.queries()::toString);
+
+            capturedQueries.clear();
+            try (Stream<TransactionResponse> rows = transactionService.streamForExport(userId, null, null)) {
+                assertEquals(45, rows.count());
+            }
+            assertEquals(1, capturedQueries.executions(), capturedQueries.queries()::toString);
+
+            assertEquals(0, session.getStatistics().getEntityCount());
+        });
+    }
+
+    private List<TransactionResponse> export(String month, UUID category) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> {
+            try (Stream<TransactionResponse> rows = transactionService.streamForExport(userId, month, category)) {
+                return rows.toList();
+            }
+        });
+    }
+
+    private List<TransactionResponse> offsetPages(String month, UUID category, TransactionType type, String q) {
+        List<TransactionResponse> rows = new ArrayList<>();
+        PageResponse<TransactionResponse> page;
+        int number = 0;
+        do {
+            page = transactionService.list(userId, month, category, type, q, TransactionSearchMode.CONTAINS, number++);
+            rows.addAll(page.items());
+        } while (!page.last());
+        return rows;
+    }
+
+    private List<TransactionResponse> cursorPages(String month, UUID category, TransactionType type, String q) {
+        List<TransactionResponse> rows = new ArrayList<>();
+        CursorPageResponse<TransactionResponse> page;
+        String after = null;
+        do {
+            page = transactionService.listAfter(userId, month, category, type, q, TransactionSearchMode.CONTAINS, after);
+            rows.addAll(page.items());
+            after = page.nextCursor();
+        } while (!page.last());
+        return rows;
+    }
+}
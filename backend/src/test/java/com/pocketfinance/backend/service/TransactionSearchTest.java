@@ -0,0 +1,117 @@
+package com.pocketfinance.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pocketfinance.backend.api.dto.TransactionResponse;
+import com.pocketfinance.backend.domain.model.TransactionSearchMode;
+import com.pocketfinance.backend.exception.BadRequestException;
+import com.pocketfinance.backend.support.EmbeddedPostgresDatabase;
+import com.pocketfinance.backend.support.TestUsers;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest
+class TransactionSearchTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void seed() {
+        userId = TestUsers.insert(jdbcTemplate, "Search");
+        UUID categoryId = jdbcTemplate.queryForObject(
+                "INSERT INTO category (user_id, name, color) VALUES (?, 'Geral', '#000000') RETURNING id",
+                UUID.class, userId);
+        String[] descriptions = {
+                "Mercado Extra",
+                "Supermercado do bairro",
+                "Uber viagem centro",
+                "Uber aeroporto",
+                "Feira e mercado, mercado de novo",
+                "Desconto 50% farmacia",
+                "Desconto 500 farmacia"
+        };
+        for (int index = 0; index < descriptions.length; index++) {
+            jdbcTemplate.update("""
+                    INSERT INTO finance_transaction (user_id, category_id, type, description, amount, date, created_at, updated_at)
+                    VALUES (?, ?, 'EXPENSE', ?, 10.00, DATE '2026-03-01' + ?, now(), now())
+                    """, userId, categoryId, descriptions[index], index);
+        }
+    }
+
+    @Test
+    void containsShouldMatchPrefixesAndInfixesIgnoringCase() {
+        assertEquals(List.of("Uber aeroporto", "Uber viagem centro"), search("UB", TransactionSearchMode.CONTAINS));
+        assertEquals(List.of("Feira e mercado, mercado de novo", "Supermercado do bairro", "Mercado Extra"),
+                search("MERC", TransactionSearchMode.CONTAINS));
+        assertEquals(List.of("Feira e mercado, mercado de novo", "Supermercado do bairro", "Mercado Extra"),
+                search("ercad", TransactionSearchMode.CONTAINS));
+    }
+
+    @Test
+    void containsShouldMatchWholePhrase() {
+        assertEquals(List.of("Uber viagem centro"), search("uber viagem", TransactionSearchMode.CONTAINS));
+        assertEquals(List.of(), search("centro uber", TransactionSearchMode.CONTAINS));
+        assertEquals(List.of(), search("viagem uber", TransactionSearchMode.CONTAINS));
+    }
+
+    @Test
+    void wordsShouldRequireEveryWordInAnyOrder() {
+        assertEquals(List.of("Uber viagem centro"), search("centro uber", TransactionSearchMode.WORDS));
+        assertEquals(List.of("Uber aeroporto", "Uber viagem centro"), search("  uber  ", TransactionSearchMode.WORDS));
+        assertEquals(List.of("Desconto 50% farmacia"), search("farmacia 50%", TransactionSearchMode.WORDS));
+    }
+
+    @Test
+    void cursorShouldApplySearchModeAndRejectRanked() {
+        assertEquals(List.of(), transactionService.listAfter(userId, null, null, null, "centro uber",
+                TransactionSearchMode.CONTAINS, null).items());
+        assertEquals(List.of("Uber viagem centro"), transactionService.listAfter(userId, null, null, null,
+                "centro uber", TransactionSearchMode.WORDS, null).items().stream()
+                .map(TransactionResponse::description)
+                .toList());
+
+        BadRequestException ranked = assertThrows(BadRequestException.class, () -> transactionService.listAfter(userId,
+                null, null, null, "uber", TransactionSearchMode.RANKED, null));
+        assertEquals("search=RANKED nao e suportado na paginacao por cursor.", ranked.getMessage());
+    }
+
+    @Test
+    void containsShouldTreatLikeWildcardsAsLiterals() {
+        assertEquals(List.of("Desconto 50% farmacia"), search("50%", TransactionSearchMode.CONTAINS));
+        assertEquals(List.of(), search("desconto_50", TransactionSearchMode.CONTAINS));
+    }
+
+    @Test
+    void rankedShouldMatchWholeWordsAndOrderByRelevance() {
+        assertEquals(List.of("Feira e mercado, mercado de novo", "Mercado Extra"),
+                search("mercado", TransactionSearchMode.RANKED));
+        assertEquals(List.of("Uber viagem centro"), search("uber centro", TransactionSearchMode.RANKED));
+        assertEquals(List.of("Uber aeroporto"), search("uber -centro", TransactionSearchMode.RANKED));
+        assertEquals(List.of(), search("merc", TransactionSearchMode.RANKED));
+    }
+
+    private List<String> search(String q, TransactionSearchMode mode) {
+        return transactionService.list(userId, null, null, null, q, mode, 0).items().stream()
+                .map(TransactionResponse::description)
+                .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.pocketfinance.backend.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class CaptureConfig {
+
+    @Bean
+    static CapturedQueries capturedQueries() {
+        return new CapturedQueries();
+    }
+}
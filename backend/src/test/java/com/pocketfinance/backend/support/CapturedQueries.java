@@ -0,0 +1,76 @@
+package com.pocketfinance.backend.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.postgresql.PGStatement;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+public class CapturedQueries implements BeanPostProcessor {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    public List<String> queries() {
+        return List.copyOf(queries);
+    }
+
+    public int executions() {
+        return executions.get();
+    }
+
+    public void clear() {
+        queries.clear();
+        executions.set(0);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, result) -> result instanceof Connection connection
+                    ? proxy(Connection.class, connection, this::wrapStatement)
+                    : result);
+        }
+        return bean;
+    }
+
+    private Object wrapStatement(Method method, Object result) throws Exception {
+        if (!(result instanceof PreparedStatement statement)) {
+            return result;
+        }
+        return proxy(PreparedStatement.class, statement, (executed, value) -> value);
+    }
+
+    private <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+        InvocationHandler invocation = (proxy, method, args) -> {
+            if (target instanceof PreparedStatement statement && EXECUTE_METHODS.contains(method.getName())) {
+                executions.incrementAndGet();
+                if (method.getName().equals("executeQuery") && method.getParameterCount() == 0) {
+                    queries.add(statement.unwrap(PGStatement.class).toString());
+                }
+            }
+            try {
+                return handler.handle(method, method.invoke(target, args));
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocation));
+    }
+
+    @FunctionalInterface
+    private interface ResultHandler {
+        Object handle(Method method, Object result) throws Exception;
+    }
+}
@@ -0,0 +1,128 @@
+package com.pocketfinance.backend.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.util.FileSystemUtils;
+
+public final class EmbeddedPostgresDatabase {
+
+    private static final Set<String> SKIPPED_ON_COPY = Set.of("postmaster.pid", "postmaster.opts", "epg-lock");
+    private static final Set<String> EMPTIED_ON_COPY = Set.of("pg_wal", "pg_replslot", "pg_stat_tmp");
+
+    private static EmbeddedPostgres primary;
+    private static Path primaryDirectory;
+    private static EmbeddedPostgres replica;
+
+    private EmbeddedPostgresDatabase() {
+    }
+
+    public static synchronized EmbeddedPostgres get() {
+        if (primary == null) {
+            try {
+                primaryDirectory = Files.createTempDirectory("pocket-finance-primary");
+                primary = closeOnShutdown(EmbeddedPostgres.builder().setDataDirectory(primaryDirectory).start());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return primary;
+    }
+
+    public static synchronized EmbeddedPostgres replica() {
+        if (replica == null) {
+            try {
+                replica = closeOnShutdown(startReplica(get()));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        return replica;
+    }
+
+    public static void register(DynamicPropertyRegistry registry) {
+        EmbeddedPostgres database = get();
+        registry.add("spring.datasource.url", () -> database.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    public static void registerWithReplica(DynamicPropertyRegistry registry) {
+        register(registry);
+        EmbeddedPostgres database = replica();
+        registry.add("app.read-replicas.urls", () -> database.getJdbcUrl("postgres", "postgres"));
+        registry.add("app.read-replicas.username", () -> "postgres");
+        registry.add("app.read-replicas.password", () -> "");
+    }
+
+    private static EmbeddedPostgres startReplica(EmbeddedPostgres source) throws IOException, SQLException {
+        Path directory = Files.createTempDirectory("pocket-finance-replica");
+        try (Connection connection = source.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_backup_start('replica', true)");
+            copy(primaryDirectory, directory);
+            try (ResultSet backup = statement.executeQuery("SELECT labelfile FROM pg_backup_stop(false)")) {
+                backup.next();
+                Files.writeString(directory.resolve("backup_label"), backup.getString(1));
+            }
+        }
+        Files.createFile(directory.resolve("standby.signal"));
+        Files.writeString(directory.resolve("postgresql.auto.conf"),
+                "primary_conninfo = 'host=localhost port=" + source.getPort() + " user=postgres'\n",
+                StandardOpenOption.APPEND);
+        Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwx------"));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> FileSystemUtils.deleteRecursively(directory.toFile())));
+        return EmbeddedPostgres.builder().setDataDirectory(directory).setCleanDataDirectory(false).start();
+    }
+
+    private static void copy(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : paths.toList()) {
+                Path relative = source.relativize(path);
+                if (relative.getNameCount() == 0) {
+                    continue;
+                }
+                if (SKIPPED_ON_COPY.contains(relative.toString())
+                        || (relative.getNameCount() > 1 && EMPTIED_ON_COPY.contains(relative.getName(0).toString()))) {
+                    continue;
+                }
+                Path destination = target.resolve(relative.toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(destination);
+                } else {
+                    try {
+                        Files.copy(path, destination);
+                    } catch (NoSuchFileException ignored) {
+                    }
+                }
+            }
+        }
+    }
+
+    private static EmbeddedPostgres closeOnShutdown(EmbeddedPostgres database) {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                database.close();
+            } catch (IOException ignored) {
+            }
+        }));
+        return database;
+    }
+}
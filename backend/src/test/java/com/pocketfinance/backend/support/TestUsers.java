@@ -0,0 +1,17 @@
+package com.pocketfinance.backend.support;
+
+import java.util.Locale;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    public static UUID insert(JdbcTemplate jdbcTemplate, String fullName) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO app_user (email, password_hash, full_name) VALUES (?, 'x', ?) RETURNING id",
+                UUID.class, fullName.toLowerCase(Locale.ROOT) + "-" + UUID.randomUUID() + "@pocket.local", fullName);
+    }
+}
@@ -38,6 +38,27 @@ describe('BudgetsService', () => {
     ]);
   });
 
+  it('should load budget status for a month', async () => {
+    const status = {
+      budgetId: 'b1',
+      categoryId: 'c1',
+      categoryName: 'Moradia',
+      categoryColor: '#112233',
+      month: '2026-02-01',
+      budgeted: 1200,
+      spent: 300,
+      remaining: 900,
+      percentUsed: 25
+    };
+    const promise = firstValueFrom(service.status('2026-02'));
+
+    const req = httpMock.expectOne('/api/budgets/status?month=2026-02');
+    expect(req.request.method).toBe('GET');
+    req.flush([status]);
+
+    await expectAsync(promise).toBeResolvedTo([status]);
+  });
+
   it('should create and update budgets', async () => {
     const createPayload = { month: '2026-02', categoryId: 'c1', amount: 500 };
     const createPromise = firstValueFrom(service.create(createPayload));
@@ -2,7 +2,7 @@ import { HttpClient, HttpParams } from '@angular/common/http';
 import { inject, Injectable } from '@angular/core';
 import { Observable } from 'rxjs';
 import { API_BASE_URL } from './api.config';
-import { Budget, BudgetCreateRequest, BudgetUpdateRequest } from './finance.models';
+import { Budget, BudgetCreateRequest, BudgetStatus, BudgetUpdateRequest } from './finance.models';
 
 @Injectable({ providedIn: 'root' })
 export class BudgetsService {
@@ -17,6 +17,14 @@ export class BudgetsService {
     return this.http.get<Budget[]>(`${this.apiBaseUrl}/budgets`, { params });
   }
 
+  status(month?: string | null): Observable<BudgetStatus[]> {
+    let params = new HttpParams();
+    if (month) {
+      params = params.set('month', month);
+    }
+    return this.http.get<BudgetStatus[]>(`${this.apiBaseUrl}/budgets/status`, { params });
+  }
+
   create(payload: BudgetCreateRequest): Observable<Budget> {
     return this.http.post<Budget>(`${this.apiBaseUrl}/budgets`, payload);
   }
@@ -0,0 +1,46 @@
+import { provideHttpClient } from '@angular/common/http';
+import { HttpTestingController, provideHttpClientTesting } from '@angular/common/http/testing';
+import { TestBed } from '@angular/core/testing';
+import { firstValueFrom } from 'rxjs';
+import { API_BASE_URL } from './api.config';
+import { DashboardService } from './dashboard.service';
+
+describe('DashboardService', () => {
+  let service: DashboardService;
+  let httpMock: HttpTestingController;
+
+  beforeEach(() => {
+    TestBed.configureTestingModule({
+      providers: [
+        provideHttpClient(),
+        provideHttpClientTesting(),
+        { provide: API_BASE_URL, useValue: '/api' }
+      ]
+    });
+
+    service = TestBed.inject(DashboardService);
+    httpMock = TestBed.inject(HttpTestingController);
+  });
+
+  afterEach(() => {
+    httpMock.verify();
+  });
+
+  it('should request the monthly summary', async () => {
+    const summary = {
+      month: '2026-02-01',
+      income: 5000,
+      expense: 1200,
+      balance: 3800,
+      categories: [{ categoryId: 'c1', categoryName: 'Moradia', color: '#1B998B', spent: 1200, budget: 1500 }],
+      recentTransactions: []
+    };
+    const promise = firstValueFrom(service.summary('2026-02'));
+
+    const req = httpMock.expectOne('/api/dashboard/summary?month=2026-02');
+    expect(req.request.method).toBe('GET');
+    req.flush(summary);
+
+    await expectAsync(promise).toBeResolvedTo(summary);
+  });
+});
@@ -0,0 +1,19 @@
+import { HttpClient, HttpParams } from '@angular/common/http';
+import { inject, Injectable } from '@angular/core';
+import { Observable } from 'rxjs';
+import { API_BASE_URL } from './api.config';
+import { DashboardSummary } from './finance.models';
+
+@Injectable({ providedIn: 'root' })
+export class DashboardService {
+  private readonly http = inject(HttpClient);
+  private readonly apiBaseUrl = inject(API_BASE_URL);
+
+  summary(month?: string | null): Observable<DashboardSummary> {
+    let params = new HttpParams();
+    if (month) {
+      params = params.set('month', month);
+    }
+    return this.http.get<DashboardSummary>(`${this.apiBaseUrl}/dashboard/summary`, { params });
+  }
+}
@@ -64,6 +64,49 @@ export interface TransactionListQuery {
 export interface CsvImportResponse {
   imported: number;
   skipped: number;
+  engine: string;
+  elapsedMillis: number;
+  rowsPerSecond: number;
+}
+
+export type ImportJobStatus = 'QUEUED' | 'RUNNING' | 'COMPLETED' | 'FAILED';
+
+export interface ImportJob {
+  id: string;
+  status: ImportJobStatus;
+  parsed: number;
+  imported: number;
+  skipped: number;
+  rowsPerSecond: number;
+  engine: string;
+  error: string | null;
+  createdAt: string;
+  finishedAt: string | null;
+}
+
+export type TrendGroupBy = 'CATEGORY' | 'TYPE';
+
+export interface TrendQuery {
+  from: string;
+  to: string;
+  groupBy?: 'category' | 'type';
+  type?: TransactionType | null;
+}
+
+export interface TrendSeries {
+  key: string;
+  label: string;
+  color: string | null;
+  totals: number[];
+}
+
+export interface TrendReport {
+  from: string;
+  to: string;
+  groupBy: TrendGroupBy;
+  type: TransactionType | null;
+  months: string[];
+  series: TrendSeries[];
 }
 
 export interface CsvExportQuery {
@@ -79,6 +122,18 @@ export interface Budget {
   amount: number;
 }
 
+export interface BudgetStatus {
+  budgetId: string;
+  categoryId: string;
+  categoryName: string;
+  categoryColor: string;
+  month: string;
+  budgeted: number;
+  spent: number;
+  remaining: number;
+  percentUsed: number;
+}
+
 export interface BudgetCreateRequest {
   month: string;
   categoryId: string;
@@ -88,3 +143,20 @@ export interface BudgetCreateRequest {
 export interface BudgetUpdateRequest {
   amount: number;
 }
+
+export interface DashboardCategory {
+  categoryId: string;
+  categoryName: string;
+  color: string;
+  spent: number;
+  budget: number | null;
+}
+
+export interface DashboardSummary {
+  month: string;
+  income: number;
+  expense: number;
+  balance: number;
+  categories: DashboardCategory[];
+  recentTransactions: Transaction[];
+}
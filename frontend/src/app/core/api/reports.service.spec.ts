@@ -42,9 +42,41 @@ describe('ReportsService', () => {
     expect(sentFile).toBeTruthy();
     expect((sentFile as File).name).toBe('transactions.csv');
 
-    req.flush({ imported: 3, skipped: 1 });
+    req.flush({ imported: 3, skipped: 1, engine: 'copy', elapsedMillis: 40, rowsPerSecond: 75 });
 
-    await expectAsync(requestPromise).toBeResolvedTo({ imported: 3, skipped: 1 });
+    await expectAsync(requestPromise).toBeResolvedTo({ imported: 3, skipped: 1, engine: 'copy', elapsedMillis: 40, rowsPerSecond: 75 });
+  });
+
+  it('should submit csv import job and poll its progress', async () => {
+    const file = new File(['date,description,amount,type,category'], 'transactions.csv', {
+      type: 'text/csv'
+    });
+    const job = {
+      id: 'job-1',
+      status: 'RUNNING' as const,
+      parsed: 1200,
+      imported: 1000,
+      skipped: 2,
+      rowsPerSecond: 5000,
+      engine: 'copy',
+      error: null,
+      createdAt: '2026-02-26T10:00:00Z',
+      finishedAt: null
+    };
+
+    const submitPromise = firstValueFrom(service.submitImportJob(file));
+    const submitReq = httpMock.expectOne('/api/import/jobs');
+    expect(submitReq.request.method).toBe('POST');
+    expect(submitReq.request.body instanceof FormData).toBeTrue();
+    submitReq.flush({ ...job, status: 'QUEUED', parsed: 0, imported: 0, skipped: 0, rowsPerSecond: 0 });
+    await expectAsync(submitPromise).toBeResolved();
+
+    const pollPromise = firstValueFrom(service.getImportJob('job-1'));
+    const pollReq = httpMock.expectOne('/api/import/jobs/job-1');
+    expect(pollReq.request.method).toBe('GET');
+    pollReq.flush(job);
+
+    await expectAsync(pollPromise).toBeResolvedTo(job);
   });
 
   it('should download csv blob with optional query params', async () => {
@@ -69,4 +101,27 @@ describe('ReportsService', () => {
     expect(response).toEqual(jasmine.any(HttpResponse));
     expect(response.body).toEqual(csvBlob);
   });
+
+  it('should request trend report with range and grouping', async () => {
+    const report = {
+      from: '2025-03-01',
+      to: '2026-02-01',
+      groupBy: 'TYPE' as const,
+      type: null,
+      months: ['2025-03-01'],
+      series: [{ key: 'EXPENSE', label: 'EXPENSE', color: null, totals: [120] }]
+    };
+
+    const promise = firstValueFrom(service.trend({ from: '2025-03', to: '2026-02', groupBy: 'type' }));
+
+    const req = httpMock.expectOne((request) => request.url === '/api/reports/trend');
+    expect(req.request.method).toBe('GET');
+    expect(req.request.params.get('from')).toBe('2025-03');
+    expect(req.request.params.get('to')).toBe('2026-02');
+    expect(req.request.params.get('groupBy')).toBe('type');
+    expect(req.request.params.has('type')).toBeFalse();
+    req.flush(report);
+
+    await expectAsync(promise).toBeResolvedTo(report);
+  });
 });
@@ -2,7 +2,7 @@ import { HttpClient, HttpParams, HttpResponse } from '@angular/common/http';
 import { inject, Injectable } from '@angular/core';
 import { Observable } from 'rxjs';
 import { API_BASE_URL } from './api.config';
-import { CsvExportQuery, CsvImportResponse } from './finance.models';
+import { CsvExportQuery, CsvImportResponse, ImportJob, TrendQuery, TrendReport } from './finance.models';
 
 @Injectable({ providedIn: 'root' })
 export class ReportsService {
@@ -16,6 +16,17 @@ export class ReportsService {
     return this.http.post<CsvImportResponse>(`${this.apiBaseUrl}/import/csv`, formData);
   }
 
+  submitImportJob(file: File): Observable<ImportJob> {
+    const formData = new FormData();
+    formData.append('file', file);
+
+    return this.http.post<ImportJob>(`${this.apiBaseUrl}/import/jobs`, formData);
+  }
+
+  getImportJob(id: string): Observable<ImportJob> {
+    return this.http.get<ImportJob>(`${this.apiBaseUrl}/import/jobs/${id}`);
+  }
+
   exportCsv(query: CsvExportQuery = {}): Observable<HttpResponse<Blob>> {
     let params = new HttpParams();
     if (query.month) {
@@ -31,4 +42,16 @@ export class ReportsService {
       responseType: 'blob'
     });
   }
+
+  trend(query: TrendQuery): Observable<TrendReport> {
+    let params = new HttpParams().set('from', query.from).set('to', query.to);
+    if (query.groupBy) {
+      params = params.set('groupBy', query.groupBy);
+    }
+    if (query.type) {
+      params = params.set('type', query.type);
+    }
+
+    return this.http.get<TrendReport>(`${this.apiBaseUrl}/reports/trend`, { params });
+  }
 }
@@ -7,8 +7,7 @@ import { ActivatedRoute, Router } from '@angular/router';
 import { forkJoin } from 'rxjs';
 import { BudgetsService } from '../core/api/budgets.service';
 import { CategoriesService } from '../core/api/categories.service';
-import { Budget, Category, Transaction } from '../core/api/finance.models';
-import { TransactionsService } from '../core/api/transactions.service';
+import { Budget, BudgetStatus, Category } from '../core/api/finance.models';
 import { ToastService } from '../core/ui/toast.service';
 import { StateEmptyComponent } from '../shared/state/state-empty.component';
 import { StateErrorComponent } from '../shared/state/state-error.component';
@@ -28,7 +27,6 @@ export class BudgetsPageComponent {
   private readonly router = inject(Router);
   private readonly budgetsService = inject(BudgetsService);
   private readonly categoriesService = inject(CategoriesService);
-  private readonly transactionsService = inject(TransactionsService);
   private readonly toastService = inject(ToastService);
 
   protected readonly categories = signal<Category[]>([]);
@@ -236,15 +234,17 @@ export class BudgetsPageComponent {
 
     forkJoin({
       categories: this.categoriesService.list(),
-      budgets: this.budgetsService.list(month),
-      expenses: this.transactionsService.listAll({ month, type: 'EXPENSE' })
+      status: this.budgetsService.status(month)
     })
       .pipe(takeUntilDestroyed(this.destroyRef))
       .subscribe({
-        next: ({ categories, budgets, expenses }) => {
+        next: ({ categories, status }) => {
+          const budgets = status.map((item) => this.toBudget(item));
           this.categories.set(categories);
           this.budgets.set(budgets);
-          this.expenseUsageByCategoryId.set(this.groupExpenseUsage(expenses));
+          this.expenseUsageByCategoryId.set(
+            Object.fromEntries(status.map((item) => [item.categoryId, Number(item.spent || 0)]))
+          );
           this.draftAmounts.set(
             Object.fromEntries(budgets.map((budget) => [budget.id, Number(budget.amount)]))
           );
@@ -257,12 +257,14 @@ export class BudgetsPageComponent {
       });
   }
 
-  private groupExpenseUsage(transactions: Transaction[]): Record<string, number> {
-    return transactions.reduce<Record<string, number>>((acc, tx) => {
-      const amount = Number(tx.amount || 0);
-      acc[tx.categoryId] = (acc[tx.categoryId] ?? 0) + amount;
-      return acc;
-    }, {});
+  private toBudget(status: BudgetStatus): Budget {
+    return {
+      id: status.budgetId,
+      categoryId: status.categoryId,
+      categoryName: status.categoryName,
+      month: status.month,
+      amount: Number(status.budgeted)
+    };
   }
 
   private currentMonthRef(): string {
@@ -1,11 +1,9 @@
 import { CommonModule } from '@angular/common';
 import { Component, DestroyRef, inject, signal } from '@angular/core';
 import { takeUntilDestroyed } from '@angular/core/rxjs-interop';
-import { forkJoin } from 'rxjs';
-import { BudgetsService } from '../core/api/budgets.service';
+import { DashboardService } from '../core/api/dashboard.service';
 import { HealthService } from '../core/api/health.service';
-import { Budget, Transaction } from '../core/api/finance.models';
-import { TransactionsService } from '../core/api/transactions.service';
+import { DashboardCategory, Transaction } from '../core/api/finance.models';
 import { StateEmptyComponent } from '../shared/state/state-empty.component';
 import { StateErrorComponent } from '../shared/state/state-error.component';
 import { StateLoadingComponent } from '../shared/state/state-loading.component';
@@ -27,8 +25,7 @@ interface DashboardHighlight {
 })
 export class DashboardPageComponent {
   private readonly healthService = inject(HealthService);
-  private readonly transactionsService = inject(TransactionsService);
-  private readonly budgetsService = inject(BudgetsService);
+  private readonly dashboardService = inject(DashboardService);
   private readonly destroyRef = inject(DestroyRef);
 
   protected readonly apiHealthState = signal<HealthState>('loading');
@@ -66,28 +63,22 @@ export class DashboardPageComponent {
         }
       });
 
-    forkJoin({
-      transactions: this.transactionsService.listAll({ month }),
-      budgets: this.budgetsService.list(month)
-    })
+    this.dashboardService
+      .summary(month)
       .pipe(takeUntilDestroyed(this.destroyRef))
       .subscribe({
-        next: ({ transactions, budgets }) => {
-          const income = transactions
-            .filter((tx) => tx.type === 'INCOME')
-            .reduce((sum, tx) => sum + Number(tx.amount || 0), 0);
-          const expense = transactions
-            .filter((tx) => tx.type === 'EXPENSE')
-            .reduce((sum, tx) => sum + Number(tx.amount || 0), 0);
+        next: (summary) => {
+          const income = Number(summary.income || 0);
+          const expense = Number(summary.expense || 0);
 
           this.highlights.set([
             { label: 'Receitas (mes)', value: income, tone: 'positive' },
             { label: 'Despesas (mes)', value: expense, tone: 'negative' },
-            { label: 'Saldo do mes', value: income - expense, tone: 'neutral' }
+            { label: 'Saldo do mes', value: Number(summary.balance || 0), tone: 'neutral' }
           ]);
 
-          this.recentTransactions.set(this.sortRecent(transactions).slice(0, 5));
-          this.budgetSummary.set(this.computeBudgetSummary(budgets, transactions));
+          this.recentTransactions.set(summary.recentTransactions);
+          this.budgetSummary.set(this.computeBudgetSummary(summary.categories));
           this.isLoading.set(false);
         },
         error: () => {
@@ -97,35 +88,18 @@ export class DashboardPageComponent {
       });
   }
 
-  private computeBudgetSummary(budgets: Budget[], transactions: Transaction[]): { total: number; spent: number; coverage: number } | null {
-    if (!budgets.length) {
+  private computeBudgetSummary(categories: DashboardCategory[]): { total: number; spent: number; coverage: number } | null {
+    const budgeted = categories.filter((category) => category.budget !== null);
+    if (!budgeted.length) {
       return null;
     }
 
-    const spentByCategory = transactions
-      .filter((tx) => tx.type === 'EXPENSE')
-      .reduce<Record<string, number>>((acc, tx) => {
-        acc[tx.categoryId] = (acc[tx.categoryId] ?? 0) + Number(tx.amount || 0);
-        return acc;
-      }, {});
-
-    const total = budgets.reduce((sum, budget) => sum + Number(budget.amount || 0), 0);
-    const spent = budgets.reduce((sum, budget) => sum + (spentByCategory[budget.categoryId] ?? 0), 0);
+    const total = budgeted.reduce((sum, category) => sum + Number(category.budget || 0), 0);
+    const spent = budgeted.reduce((sum, category) => sum + Number(category.spent || 0), 0);
     const coverage = total > 0 ? Math.min(100, (spent / total) * 100) : 0;
     return { total, spent, coverage };
   }
 
-  private sortRecent(items: Transaction[]): Transaction[] {
-    return [...items].sort((a, b) => {
-      const aTime = new Date(`${a.date}T00:00:00`).getTime();
-      const bTime = new Date(`${b.date}T00:00:00`).getTime();
-      if (aTime !== bTime) {
-        return bTime - aTime;
-      }
-      return new Date(b.createdAt).getTime() - new Date(a.createdAt).getTime();
-    });
-  }
-
   private currentMonthRef(): string {
     return new Date().toISOString().slice(0, 7);
   }
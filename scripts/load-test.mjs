@@ -0,0 +1,118 @@
+import fs from 'node:fs/promises';
+
+const baseUrl = process.env.BACKEND_URL ?? 'http://localhost:38080';
+const email = process.env.LOAD_EMAIL ?? 'demo@pocket.local';
+const password = process.env.LOAD_PASSWORD ?? 'demo123';
+const concurrency = Number(process.env.LOAD_CONCURRENCY ?? 64);
+const durationSeconds = Number(process.env.LOAD_DURATION_SECONDS ?? 30);
+const warmupSeconds = Number(process.env.LOAD_WARMUP_SECONDS ?? 5);
+const outFile = process.env.LOAD_OUT;
+
+const month = new Date().toISOString().slice(0, 7);
+const trendFrom = `${new Date().getFullYear() - 1}-01`;
+
+const scenarios = [
+  { name: 'transactions', weight: 50, path: `/transactions?month=${month}` },
+  { name: 'dashboard', weight: 20, path: `/dashboard/summary?month=${month}` },
+  { name: 'budgets-status', weight: 15, path: `/budgets/status?month=${month}` },
+  { name: 'reports-trend', weight: 10, path: `/reports/trend?from=${trendFrom}&to=${month}` },
+  { name: 'export', weight: 5, path: `/export/csv?month=${month}` }
+];
+const totalWeight = scenarios.reduce((sum, scenario) => sum + scenario.weight, 0);
+
+function pickScenario() {
+  let roll = Math.random() * totalWeight;
+  for (const scenario of scenarios) {
+    roll -= scenario.weight;
+    if (roll < 0) {
+      return scenario;
+    }
+  }
+  return scenarios[0];
+}
+
+async function login() {
+  const response = await fetch(`${baseUrl}/auth/login`, {
+    method: 'POST',
+    headers: { 'Content-Type': 'application/json' },
+    body: JSON.stringify({ email, password })
+  });
+  if (!response.ok) {
+    throw new Error(`Login falhou com status ${response.status}`);
+  }
+  return (await response.json()).accessToken;
+}
+
+function percentile(sorted, p) {
+  if (sorted.length === 0) {
+    return 0;
+  }
+  const index = Math.min(sorted.length - 1, Math.ceil((p / 100) * sorted.length) - 1);
+  return sorted[Math.max(0, index)];
+}
+
+function summarize(name, samples, seconds) {
+  const latencies = samples.map((sample) => sample.ms).sort((a, b) => a - b);
+  const statuses = {};
+  for (const sample of samples) {
+    statuses[sample.status] = (statuses[sample.status] ?? 0) + 1;
+  }
+  return {
+    name,
+    requests: samples.length,
+    throughput: Number((samples.length / seconds).toFixed(1)),
+    p50: Number(percentile(latencies, 50).toFixed(1)),
+    p95: Number(percentile(latencies, 95).toFixed(1)),
+    p99: Number(percentile(latencies, 99).toFixed(1)),
+    statuses
+  };
+}
+
+async function worker(token, deadline, warmupUntil, samples) {
+  while (performance.now() < deadline) {
+    const scenario = pickScenario();
+    const startedAt = performance.now();
+    let status = 0;
+    try {
+      const response = await fetch(`${baseUrl}${scenario.path}`, {
+        headers: { Authorization: `Bearer ${token}` }
+      });
+      await response.arrayBuffer();
+      status = response.status;
+    } catch {
+      status = 'erro';
+    }
+    if (startedAt >= warmupUntil) {
+      samples.push({ scenario: scenario.name, status, ms: performance.now() - startedAt });
+    }
+  }
+}
+
+async function main() {
+  const token = await login();
+  const startedAt = performance.now();
+  const warmupUntil = startedAt + warmupSeconds * 1000;
+  const deadline = warmupUntil + durationSeconds * 1000;
+  const samples = [];
+
+  await Promise.all(Array.from({ length: concurrency }, () => worker(token, deadline, warmupUntil, samples)));
+
+  const report = {
+    baseUrl,
+    concurrency,
+    durationSeconds,
+    total: summarize('total', samples, durationSeconds),
+    scenarios: scenarios.map((scenario) =>
+      summarize(scenario.name, samples.filter((sample) => sample.scenario === scenario.name), durationSeconds))
+  };
+
+  console.table([report.total, ...report.scenarios].map(({ statuses, ...row }) => ({ ...row, statuses: JSON.stringify(statuses) })));
+  if (outFile) {
+    await fs.writeFile(outFile, JSON.stringify(report, null, 2));
+  }
+}
+
+main().catch((error) => {
+  console.error(error);
+  process.exit(1);
+});